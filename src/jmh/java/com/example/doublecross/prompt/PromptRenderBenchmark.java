@@ -0,0 +1,66 @@
+package com.example.doublecross.prompt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Story Writer 사용자 프롬프트 구성 비교
+ * - replaceChain: 기존 String.replace 연쇄 (치환마다 템플릿 전체를 다시 스캔/복사)
+ * - precompiled: PromptTemplate 한 번 렌더링
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptRenderBenchmark {
+
+    private PromptTemplate storyWriterUser;
+    private String storySoFar;
+    private String instruction;
+
+    @Setup
+    public void setUp() {
+        storyWriterUser = new PromptCatalog().storyWriterUser();
+
+        // 10턴 분량의 스토리 (턴당 2~3문장)
+        StringBuilder story = new StringBuilder();
+        for (int turn = 1; turn <= 10; turn++) {
+            story.append("Turn ").append(turn).append(turn % 2 == 1 ? " (AI)" : " (PLAYER)").append(": ")
+                    .append("10년 만에 고향에 돌아온 민수는 익숙한 카페 앞에 서 있었다. ")
+                    .append("창가에 앉은 수진이 고개를 들었고, 오래된 종소리가 다시 울렸다.\n\n");
+        }
+        storySoFar = story.toString();
+        instruction = PromptTemplates.INSTRUCTION_USE_KEYWORD.replace("{keyword}", "우산");
+    }
+
+    @Benchmark
+    public String replaceChain() {
+        return PromptTemplates.STORY_WRITER_USER_PROMPT
+                .replace("{keywordStatus}", "PENDING")
+                .replace("{currentTurn}", "7")
+                .replace("{maxTurns}", "10")
+                .replace("{shouldUseKeyword}", "예 (이번 턴에 제시어 사용)")
+                .replace("{storySoFar}", storySoFar)
+                .replace("{instruction}", instruction);
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return storyWriterUser.render(Map.of(
+                "keywordStatus", "PENDING",
+                "currentTurn", "7",
+                "maxTurns", "10",
+                "shouldUseKeyword", "예 (이번 턴에 제시어 사용)",
+                "storySoFar", storySoFar,
+                "instruction", instruction));
+    }
+}
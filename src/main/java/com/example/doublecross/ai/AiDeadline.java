@@ -0,0 +1,34 @@
+package com.example.doublecross.ai;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * AI 호출 마감 시각
+ * 턴 남은 시간에서 계산하여 게이트웨이까지 전달하고, 지나면 호출을 취소
+ */
+public record AiDeadline(Instant expiresAt) {
+
+    public static AiDeadline after(Duration timeout) {
+        return new AiDeadline(Instant.now().plus(timeout));
+    }
+
+    /**
+     * 마감 시각을 앞당긴 데드라인 (저장/전송에 필요한 여유 시간 확보용)
+     */
+    public AiDeadline minus(Duration reserve) {
+        return new AiDeadline(expiresAt.minus(reserve));
+    }
+
+    /**
+     * 남은 시간 (지났으면 0)
+     */
+    public Duration remaining() {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,376 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.exception.AiTimeoutException;
+import com.example.doublecross.exception.AiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 모든 LLM 호출의 단일 진입점
+ * - 실제 호출은 AiProviderRouter에 위임 (헤지/장애 전환)
+ * - 작업 종류별 세마포어(벌크헤드)로 동시 호출 수 제한, 초과 요청은 최대 대기 시간까지 큐잉
+ * - 호출마다 데드라인을 적용하여 지나면 호출을 취소하고 AiTimeoutException 발생
+ * - 큐 길이, 대기 시간, 모델 지연 시간, 입출력 토큰, 타임아웃을 Micrometer 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class AiGateway {
+
+    private final AiProviderRouter router;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxQueueWait;
+    private final Duration defaultTimeout;
+    private final Map<AiTaskType, Bulkhead> bulkheads = new EnumMap<>(AiTaskType.class);
+
+    public AiGateway(AiProviderRouter router,
+                     MeterRegistry meterRegistry,
+                     AiProperties aiProperties) {
+        this.router = router;
+        this.meterRegistry = meterRegistry;
+        this.maxQueueWait = aiProperties.gateway().maxQueueWait();
+        this.defaultTimeout = aiProperties.gateway().defaultTimeout();
+
+        for (AiTaskType type : AiTaskType.values()) {
+            int limit = aiProperties.gateway().concurrencyFor(type);
+            Bulkhead bulkhead = new Bulkhead(limit);
+            bulkheads.put(type, bulkhead);
+
+            Gauge.builder("ai.gateway.queue.depth", bulkhead.waiting, AtomicInteger::get)
+                    .description("AI requests waiting for a permit")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            Gauge.builder("ai.gateway.in.flight", bulkhead.inFlight, AtomicInteger::get)
+                    .description("AI requests currently running")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+
+            log.info("AI gateway bulkhead {}: max {} concurrent", type, limit);
+        }
+    }
+
+    /**
+     * 동기 호출 (기본 제한 시간 적용)
+     *
+     * @return 모델 응답 텍스트
+     */
+    public String call(AiTaskType type, String systemPrompt, String userPrompt) {
+        return call(type, AiPrompt.of(systemPrompt, userPrompt), AiDeadline.after(defaultTimeout));
+    }
+
+    /**
+     * 동기 호출
+     *
+     * @return 모델 응답 텍스트
+     */
+    public String call(AiTaskType type, String systemPrompt, String userPrompt, AiDeadline deadline) {
+        return call(type, AiPrompt.of(systemPrompt, userPrompt), deadline);
+    }
+
+    /**
+     * 동기 호출 (기본 제한 시간 적용)
+     *
+     * @return 모델 응답 텍스트
+     */
+    public String call(AiTaskType type, AiPrompt prompt) {
+        return call(type, prompt, AiDeadline.after(defaultTimeout));
+    }
+
+    /**
+     * 동기 호출
+     * 데드라인이 지나면 진행 중인 요청을 취소하고 AiTimeoutException 발생
+     *
+     * @return 모델 응답 텍스트
+     */
+    public String call(AiTaskType type, AiPrompt prompt, AiDeadline deadline) {
+        return textOf(callForResponse(type, prompt, deadline, 1));
+    }
+
+    /**
+     * 후보 응답 여러 개를 한 번의 호출로 요청 (기본 제한 시간 적용)
+     */
+    public List<String> callCandidates(AiTaskType type, AiPrompt prompt, int candidates) {
+        return callCandidates(type, prompt, AiDeadline.after(defaultTimeout), candidates);
+    }
+
+    /**
+     * 후보 응답 여러 개를 한 번의 호출로 요청
+     * 제공자가 n 파라미터를 지원하지 않으면 1개만 반환될 수 있음
+     *
+     * @return 비어 있지 않은 후보 응답 텍스트 목록
+     */
+    public List<String> callCandidates(AiTaskType type, AiPrompt prompt, AiDeadline deadline, int candidates) {
+        ChatResponse response = callForResponse(type, prompt, deadline, candidates);
+        List<String> texts = new ArrayList<>(candidates);
+        for (Generation generation : response.getResults()) {
+            String text = generation.getOutput() != null ? generation.getOutput().getText() : null;
+            if (text != null && !text.isBlank()) {
+                texts.add(text);
+            }
+        }
+        return texts;
+    }
+
+    private ChatResponse callForResponse(AiTaskType type, AiPrompt prompt, AiDeadline deadline, int candidates) {
+        return withPermit(type, deadline, () -> timed(type, () -> {
+            Future<ChatResponse> future = router.call(type, prompt, candidates);
+
+            ChatResponse response = await(type, future, deadline);
+            recordUsage(type, response);
+            return response;
+        }));
+    }
+
+    /**
+     * 스트리밍 호출 (기본 제한 시간 적용)
+     */
+    public String stream(AiTaskType type, String systemPrompt, String userPrompt, Consumer<String> onChunk) {
+        return stream(type, AiPrompt.of(systemPrompt, userPrompt), AiDeadline.after(defaultTimeout), onChunk);
+    }
+
+    /**
+     * 스트리밍 호출
+     */
+    public String stream(AiTaskType type, String systemPrompt, String userPrompt,
+                         AiDeadline deadline, Consumer<String> onChunk) {
+        return stream(type, AiPrompt.of(systemPrompt, userPrompt), deadline, onChunk);
+    }
+
+    /**
+     * 스트리밍 호출 (기본 제한 시간 적용)
+     */
+    public String stream(AiTaskType type, AiPrompt prompt, Consumer<String> onChunk) {
+        return stream(type, prompt, AiDeadline.after(defaultTimeout), onChunk);
+    }
+
+    /**
+     * 스트리밍 호출
+     * 수신되는 텍스트 조각을 콜백으로 전달하고, 완료되면 전체 텍스트를 반환
+     * 데드라인이 지나면 구독을 취소하고 AiTimeoutException 발생 (이미 전달된 조각은 취소되지 않음)
+     */
+    public String stream(AiTaskType type, AiPrompt prompt, AiDeadline deadline, Consumer<String> onChunk) {
+        return withPermit(type, deadline, () -> timed(type, () -> {
+            StringBuilder text = new StringBuilder();
+            AtomicReference<ChatResponse> last = new AtomicReference<>();
+
+            try {
+                router.stream(type, prompt)
+                        .doOnNext(response -> {
+                            last.set(response);
+                            String chunk = textOf(response);
+                            if (!chunk.isEmpty()) {
+                                text.append(chunk);
+                                onChunk.accept(chunk);
+                            }
+                        })
+                        .blockLast(deadline.remaining());
+            } catch (IllegalStateException e) {
+                // blockLast 시간 초과 시 구독은 취소되고 IllegalStateException 발생
+                if (deadline.isExpired()) {
+                    throw timeout(type, deadline);
+                }
+                throw e;
+            }
+
+            // 스트리밍 사용량은 마지막 청크에만 포함됨
+            recordUsage(type, last.get());
+            return text.toString();
+        }));
+    }
+
+    /**
+     * 데드라인까지 응답 대기 (지나면 호출 취소)
+     */
+    private ChatResponse await(AiTaskType type, Future<ChatResponse> future, AiDeadline deadline) {
+        try {
+            return future.get(deadline.remaining().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw timeout(type, deadline);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AiUnavailableException("AI 요청이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AiUnavailableException("AI 호출에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 타임아웃 기록 후 예외 생성
+     */
+    private AiTimeoutException timeout(AiTaskType type, AiDeadline deadline) {
+        Counter.builder("ai.gateway.timeouts")
+                .description("AI requests cancelled because their deadline passed")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+        log.warn("AI {} request exceeded its deadline ({})", type, deadline.expiresAt());
+        return new AiTimeoutException("AI 응답 시간이 초과되었습니다.");
+    }
+
+    /**
+     * 세마포어 획득 후 실행 (최대 대기 시간 초과 시 거절)
+     * 데드라인이 대기 한도보다 먼저 오면 데드라인까지만 대기
+     */
+    private <T> T withPermit(AiTaskType type, AiDeadline deadline, Supplier<T> action) {
+        if (deadline.isExpired()) {
+            throw timeout(type, deadline);
+        }
+
+        Bulkhead bulkhead = bulkheads.get(type);
+        Duration wait = deadline.remaining().compareTo(maxQueueWait) < 0 ? deadline.remaining() : maxQueueWait;
+
+        bulkhead.waiting.incrementAndGet();
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = bulkhead.semaphore.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiUnavailableException("AI 요청이 중단되었습니다.", e);
+        } finally {
+            bulkhead.waiting.decrementAndGet();
+            Timer.builder("ai.gateway.wait")
+                    .description("Time spent waiting for an AI permit")
+                    .tag("type", type.name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired && deadline.isExpired()) {
+            throw timeout(type, deadline);
+        }
+        if (!acquired) {
+            Counter.builder("ai.gateway.rejected")
+                    .description("AI requests rejected because the queue wait limit was exceeded")
+                    .tag("type", type.name())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("AI gateway rejected {} request after waiting {}", type, maxQueueWait);
+            throw new AiUnavailableException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        bulkhead.inFlight.incrementAndGet();
+        try {
+            return action.get();
+        } finally {
+            bulkhead.inFlight.decrementAndGet();
+            bulkhead.semaphore.release();
+        }
+    }
+
+    /**
+     * 모델 호출 지연 시간 측정
+     */
+    private <T> T timed(AiTaskType type, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return action.get();
+        } catch (AiTimeoutException e) {
+            outcome = "TIMEOUT";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            Timer.builder("ai.gateway.latency")
+                    .description("Model round-trip time")
+                    .tag("type", type.name())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.9, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 입출력 토큰 수 기록
+     */
+    private void recordUsage(AiTaskType type, ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null) {
+            return;
+        }
+        countTokens(type, "input", usage.getPromptTokens());
+        countTokens(type, "output", usage.getCompletionTokens());
+
+        // 제공자 프롬프트 캐시에서 재사용된 입력 토큰 (OpenAI 호환 API만 제공)
+        if (usage.getNativeUsage() instanceof OpenAiApi.Usage nativeUsage
+                && nativeUsage.promptTokensDetails() != null
+                && nativeUsage.promptTokensDetails().cachedTokens() != null) {
+            int cached = nativeUsage.promptTokensDetails().cachedTokens();
+            countTokens(type, "cached", cached);
+            DistributionSummary.builder("ai.gateway.prompt.cached")
+                    .description("Cached prompt tokens per call")
+                    .tag("type", type.name())
+                    .register(meterRegistry)
+                    .record(cached);
+            log.debug("{} call: {} prompt tokens, {} cached", type, usage.getPromptTokens(), cached);
+        }
+    }
+
+    private void countTokens(AiTaskType type, String direction, Integer tokens) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        Counter.builder("ai.gateway.tokens")
+                .description("Tokens sent to / received from the model (cached = prompt tokens served from the provider cache)")
+                .tag("type", type.name())
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+
+    private String textOf(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return "";
+        }
+        String text = response.getResult().getOutput().getText();
+        return text != null ? text : "";
+    }
+
+    /**
+     * 작업 종류별 동시 실행 제한
+     */
+    private static final class Bulkhead {
+        private final Semaphore semaphore;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Bulkhead(int permits) {
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+}
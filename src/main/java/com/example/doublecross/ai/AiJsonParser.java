@@ -0,0 +1,169 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.exception.AiResponseParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI JSON 응답 파서
+ * 응답 앞뒤의 코드 펜스/설명 문장을 건너뛰고 첫 JSON 객체만 읽으며,
+ * 출력 토큰 한도 등으로 잘린 응답은 열린 문자열/괄호를 닫아 복구 후 파싱
+ * (복구에 실패하면 AiResponseParseException)
+ */
+@Slf4j
+@Component
+public class AiJsonParser {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public AiJsonParser(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 응답을 valueType으로 파싱
+     *
+     * @throws AiResponseParseException JSON 객체를 찾지 못했거나 복구 후에도 파싱할 수 없는 경우
+     */
+    public <T> T parse(AiTaskType type, String response, Class<T> valueType) {
+        String text = response != null ? response : "";
+        int start = text.indexOf('{');
+        if (start < 0) {
+            throw fail(type, text, null);
+        }
+
+        Scan scan = scan(text, start);
+        if (scan.end >= 0) {
+            String json = text.substring(start, scan.end + 1);
+            try {
+                T value = objectMapper.readValue(json, valueType);
+                count(type, isWrapped(text, start, scan.end) ? "trailing-text" : "ok");
+                return value;
+            } catch (JsonProcessingException e) {
+                throw fail(type, text, e);
+            }
+        }
+
+        // 잘린 응답: 끝까지 닫아 보고, 안 되면 마지막 완성된 항목까지만 사용
+        JsonProcessingException last = null;
+        for (String candidate : scan.repairCandidates(text, start)) {
+            try {
+                T value = objectMapper.readValue(candidate, valueType);
+                count(type, "truncated");
+                log.debug("{} response repaired: {}", type, candidate);
+                return value;
+            } catch (JsonProcessingException e) {
+                last = e;
+            }
+        }
+        throw fail(type, text, last);
+    }
+
+    /**
+     * start 위치의 객체를 괄호 짝을 맞춰 끝까지 훑음
+     */
+    private static Scan scan(String text, int start) {
+        Scan scan = new Scan();
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (scan.inString) {
+                if (scan.escape) {
+                    scan.escape = false;
+                } else if (c == '\\') {
+                    scan.escape = true;
+                } else if (c == '"') {
+                    scan.inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> scan.inString = true;
+                case '{' -> scan.closers.append('}');
+                case '[' -> scan.closers.append(']');
+                case '}', ']' -> {
+                    scan.closers.setLength(scan.closers.length() - 1);
+                    if (scan.closers.isEmpty()) {
+                        scan.end = i;
+                        return scan;
+                    }
+                }
+                case ',' -> {
+                    scan.lastComma = i;
+                    scan.closersAtComma = scan.closers.toString();
+                }
+                default -> {
+                }
+            }
+        }
+        return scan;
+    }
+
+    /**
+     * JSON 객체 밖에 코드 펜스 외의 텍스트가 있는지
+     */
+    private static boolean isWrapped(String text, int start, int end) {
+        String before = text.substring(0, start).replace("```json", "").replace("```", "").strip();
+        String after = text.substring(end + 1).replace("```", "").strip();
+        return !before.isEmpty() || !after.isEmpty();
+    }
+
+    private AiResponseParseException fail(AiTaskType type, String response, Exception cause) {
+        count(type, "failed");
+        log.error("Failed to parse {} response: {}", type, response, cause);
+        return new AiResponseParseException("AI 응답 파싱 실패", cause);
+    }
+
+    private void count(AiTaskType type, String result) {
+        Counter.builder("ai.response.parse")
+                .description("AI JSON responses by parse result (ok, trailing-text, truncated = repaired locally, failed)")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static final class Scan {
+        private final StringBuilder closers = new StringBuilder();
+        private boolean inString;
+        private boolean escape;
+        private int end = -1;
+        private int lastComma = -1;
+        private String closersAtComma;
+
+        /**
+         * 잘린 응답 복구 후보
+         * 1. 열린 문자열을 닫고 값이 빠진 키는 null로 채운 뒤 괄호 닫기
+         * 2. 마지막 쉼표 앞(완성된 항목)까지만 남기고 괄호 닫기
+         */
+        private String[] repairCandidates(String text, int start) {
+            StringBuilder full = new StringBuilder(text.length() + closers.length() + 8)
+                    .append(text, start, text.length());
+            if (inString) {
+                if (escape) {
+                    full.setLength(full.length() - 1);
+                }
+                full.append('"');
+            }
+            String body = full.toString().stripTrailing();
+            if (body.endsWith(",")) {
+                body = body.substring(0, body.length() - 1);
+            } else if (body.endsWith(":")) {
+                body = body + "null";
+            }
+            String closeAll = body + closers.reverse();
+            closers.reverse();
+
+            if (lastComma < 0) {
+                return new String[]{closeAll};
+            }
+            String cut = text.substring(start, lastComma) + new StringBuilder(closersAtComma).reverse();
+            return new String[]{closeAll, cut};
+        }
+    }
+}
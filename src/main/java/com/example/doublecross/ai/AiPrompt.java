@@ -0,0 +1,46 @@
+package com.example.doublecross.ai;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모델에 보낼 프롬프트 (변하지 않는 부분이 앞에 오도록 구성)
+ * 1. staticSystem: 모든 세션이 공유하는 규칙 (제공자 프롬프트 캐시 대상)
+ * 2. sessionContext: 세션 동안 고정된 정보 (장르, 제시어 등, 없으면 생략)
+ * 3. history: 이전 턴의 대화 기록 (대화 이어가기 모드, 없으면 빈 목록)
+ * 4. turn: 매 호출마다 바뀌는 정보
+ */
+public record AiPrompt(
+        String staticSystem,
+        String sessionContext,
+        List<Message> history,
+        String turn
+) {
+
+    public AiPrompt {
+        history = history != null ? List.copyOf(history) : List.of();
+    }
+
+    public AiPrompt(String staticSystem, String sessionContext, String turn) {
+        this(staticSystem, sessionContext, List.of(), turn);
+    }
+
+    public static AiPrompt of(String systemPrompt, String userPrompt) {
+        return new AiPrompt(systemPrompt, null, userPrompt);
+    }
+
+    public List<Message> toMessages() {
+        List<Message> messages = new ArrayList<>(history.size() + 3);
+        messages.add(new SystemMessage(staticSystem));
+        if (sessionContext != null) {
+            messages.add(new SystemMessage(sessionContext));
+        }
+        messages.addAll(history);
+        messages.add(new UserMessage(turn));
+        return messages;
+    }
+}
@@ -0,0 +1,375 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.exception.AiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모델 제공자 라우팅
+ * - 기본 제공자가 최근 지연 시간 p90 안에 응답하지 않으면 보조 제공자에 같은 요청을 보내고(헤지) 먼저 온 유효한 응답 사용
+ * - 기본 제공자가 5xx/429/연결 오류로 실패하면 보조 제공자로 전환
+ * - 진 쪽 요청은 취소 (동기 호출은 스레드 인터럽트, 스트리밍은 구독 취소)
+ * 보조 제공자가 설정되지 않았으면 기본 제공자만 호출
+ */
+@Slf4j
+@Component
+public class AiProviderRouter {
+
+    private static final String PRIMARY = "primary";
+    private static final String SECONDARY = "secondary";
+
+    private final ChatClient primary;
+    private final ChatClient secondary;
+    private final ExecutorService callExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.Hedge hedge;
+    private final Map<AiTaskType, ResponseFormat> responseFormats = new EnumMap<>(AiTaskType.class);
+    private final Map<AiTaskType, LatencyWindow> callLatency = new EnumMap<>(AiTaskType.class);
+    private final Map<AiTaskType, LatencyWindow> firstChunkLatency = new EnumMap<>(AiTaskType.class);
+
+    public AiProviderRouter(ChatClient.Builder chatClientBuilder,
+                            @Qualifier("secondaryChatClient") ObjectProvider<ChatClient> secondaryChatClient,
+                            @Qualifier("aiCallExecutor") ExecutorService callExecutor,
+                            MeterRegistry meterRegistry,
+                            AiProperties aiProperties) {
+        this.primary = chatClientBuilder.build();
+        this.secondary = secondaryChatClient.getIfAvailable();
+        this.callExecutor = callExecutor;
+        this.meterRegistry = meterRegistry;
+        this.hedge = aiProperties.hedge();
+
+        for (AiTaskType type : AiTaskType.values()) {
+            callLatency.put(type, new LatencyWindow(hedge.windowSize()));
+            firstChunkLatency.put(type, new LatencyWindow(hedge.windowSize()));
+        }
+
+        if (aiProperties.structuredOutput().enabled()) {
+            for (AiTaskType type : AiTaskType.values()) {
+                if (type.outputType() != null) {
+                    responseFormats.put(type, responseFormatOf(type.outputType()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 응답 DTO의 JSON 스키마를 응답 형식으로 지정하는 옵션
+     * 장르 비율 등 Map 필드와 null 허용 필드가 있어 strict 모드는 사용하지 않음 (형식 이탈은 AiJsonParser가 복구)
+     */
+    private static ResponseFormat responseFormatOf(Class<?> outputType) {
+        String schema = new BeanOutputConverter<>(outputType).getJsonSchema();
+        return ResponseFormat.builder()
+                .type(ResponseFormat.Type.JSON_SCHEMA)
+                .jsonSchema(ResponseFormat.JsonSchema.builder()
+                        .name(outputType.getSimpleName())
+                        .schema(schema)
+                        .strict(false)
+                        .build())
+                .build();
+    }
+
+    private ChatClient.ChatClientRequestSpec request(ChatClient client, AiTaskType type, AiPrompt prompt,
+                                                     int candidates) {
+        ChatClient.ChatClientRequestSpec spec = client.prompt().messages(prompt.toMessages());
+        ResponseFormat responseFormat = responseFormats.get(type);
+        if (responseFormat == null && candidates <= 1) {
+            return spec;
+        }
+        OpenAiChatOptions.Builder options = OpenAiChatOptions.builder().responseFormat(responseFormat);
+        if (candidates > 1) {
+            options.N(candidates);
+        }
+        return spec.options(options.build());
+    }
+
+    /**
+     * 동기 호출
+     * 반환된 future를 취소하면 진행 중인 모든 요청이 취소됨
+     */
+    public CompletableFuture<ChatResponse> call(AiTaskType type, AiPrompt prompt) {
+        return call(type, prompt, 1);
+    }
+
+    /**
+     * 후보 여러 개를 한 번에 요청하는 동기 호출 (제공자의 n 파라미터, 지원하지 않는 제공자는 1개만 반환)
+     */
+    public CompletableFuture<ChatResponse> call(AiTaskType type, AiPrompt prompt, int candidates) {
+        CompletableFuture<ChatResponse> result = new CompletableFuture<>();
+        new HedgedCall(type, prompt, candidates, result).start();
+        return result;
+    }
+
+    /**
+     * 스트리밍 호출
+     * 첫 응답 청크 기준으로 헤지하며, 한쪽이 먼저 응답하면 다른 쪽 구독은 취소됨
+     * 이미 청크를 보낸 뒤의 실패는 전환하지 않음 (중간부터 다른 모델의 문장이 섞이지 않도록)
+     */
+    public Flux<ChatResponse> stream(AiTaskType type, AiPrompt prompt) {
+        Flux<ChatResponse> primaryFlux = streamOf(type, PRIMARY, primary, prompt);
+        if (secondary == null) {
+            return primaryFlux;
+        }
+
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicBoolean primaryEmitted = new AtomicBoolean();
+        Flux<ChatResponse> secondaryFlux = streamOf(type, SECONDARY, secondary, prompt);
+
+        Flux<ChatResponse> withFailover = primaryFlux
+                .doOnNext(response -> {
+                    primaryEmitted.set(true);
+                    countWin(type, PRIMARY, decided);
+                })
+                .onErrorResume(e -> !primaryEmitted.get() && isFailover(e), e -> {
+                    countFailover(type, e);
+                    return secondaryFlux.doOnNext(response -> countWin(type, SECONDARY, decided));
+                });
+
+        if (!hedge.enabled()) {
+            return withFailover;
+        }
+
+        Duration delay = hedgeDelay(firstChunkLatency.get(type));
+        Flux<ChatResponse> hedged = secondaryFlux
+                .doOnSubscribe(subscription -> countHedge(type, delay))
+                .doOnNext(response -> countWin(type, SECONDARY, decided))
+                .delaySubscription(delay);
+
+        return Flux.firstWithSignal(withFailover, hedged);
+    }
+
+    private Flux<ChatResponse> streamOf(AiTaskType type, String provider, ChatClient client, AiPrompt prompt) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean first = new AtomicBoolean(true);
+
+            Flux<ChatResponse> flux = request(client, type, prompt, 1)
+                    .stream()
+                    .chatResponse();
+
+            if (!PRIMARY.equals(provider)) {
+                return flux;
+            }
+            // 기본 제공자의 첫 청크 지연 시간 기록 (첫 청크 전에 취소된 요청은 실제 지연을 모르므로 제외)
+            return flux
+                    .doOnNext(response -> {
+                        if (first.compareAndSet(true, false)) {
+                            firstChunkLatency.get(type).record(Duration.ofNanos(System.nanoTime() - start));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 헤지 대기 시간 (최근 지연 시간 percentile, 최소 minDelay)
+     */
+    private Duration hedgeDelay(LatencyWindow window) {
+        Duration observed = window.percentile(hedge.percentile(), hedge.minDelay());
+        return observed.compareTo(hedge.minDelay()) < 0 ? hedge.minDelay() : observed;
+    }
+
+    /**
+     * 장애 전환 대상 오류인지 확인 (5xx, 429, 연결 오류, 재시도 소진된 일시 오류)
+     */
+    static boolean isFailover(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TransientAiException
+                    || t instanceof ResourceAccessException
+                    || t instanceof WebClientRequestException) {
+                return true;
+            }
+            if (t instanceof RestClientResponseException e) {
+                return isFailoverStatus(e.getStatusCode().value());
+            }
+            if (t instanceof WebClientResponseException e) {
+                return isFailoverStatus(e.getStatusCode().value());
+            }
+            // Spring AI 응답 오류 처리기는 "HTTP {status} - {body}" 형식의 메시지를 사용
+            String message = t.getMessage();
+            if (message != null && (message.startsWith("HTTP 429") || message.startsWith("HTTP 5"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFailoverStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private void countHedge(AiTaskType type, Duration delay) {
+        log.debug("Hedging {} request to secondary provider after {}", type, delay);
+        Counter.builder("ai.router.hedges")
+                .description("Duplicate requests sent to the secondary provider")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void countFailover(AiTaskType type, Throwable error) {
+        log.warn("Primary AI provider failed for {}, failing over: {}", type, error.getMessage());
+        Counter.builder("ai.router.failovers")
+                .description("Requests moved to the secondary provider after a primary failure")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void countWin(AiTaskType type, String provider, AtomicBoolean decided) {
+        if (!decided.compareAndSet(false, true)) {
+            return;
+        }
+        Counter.builder("ai.router.wins")
+                .description("Responses used, by provider")
+                .tag("type", type.name())
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 헤지/장애 전환이 적용된 동기 호출 1건
+     */
+    private final class HedgedCall {
+
+        private final AiTaskType type;
+        private final AiPrompt prompt;
+        private final int candidates;
+        private final CompletableFuture<ChatResponse> result;
+        private final List<Future<?>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean secondaryStarted = new AtomicBoolean();
+        private final AtomicBoolean decided = new AtomicBoolean();
+        private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        private HedgedCall(AiTaskType type, AiPrompt prompt, int candidates, CompletableFuture<ChatResponse> result) {
+            this.type = type;
+            this.prompt = prompt;
+            this.candidates = candidates;
+            this.result = result;
+        }
+
+        private void start() {
+            // 결과가 정해지거나 호출자가 취소하면 남은 요청 모두 취소
+            result.whenComplete((response, error) -> attempts.forEach(attempt -> attempt.cancel(true)));
+
+            pending.incrementAndGet();
+            launch(PRIMARY, primary);
+
+            if (secondary != null && hedge.enabled()) {
+                Duration delay = hedgeDelay(callLatency.get(type));
+                CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, callExecutor)
+                        .execute(() -> {
+                            if (!result.isDone() && launchSecondary()) {
+                                countHedge(type, delay);
+                            }
+                        });
+            }
+        }
+
+        /**
+         * 보조 제공자 요청 시작 (헤지 타이머와 장애 전환 중 먼저 온 쪽만)
+         * 선점 전에 pending을 먼저 올려, 선점과 제출 사이에 기본 요청이 실패해도 결과가 먼저 실패 처리되지 않도록 함
+         */
+        private boolean launchSecondary() {
+            if (secondary == null) {
+                return false;
+            }
+            pending.incrementAndGet();
+            if (!secondaryStarted.compareAndSet(false, true)) {
+                release();
+                return false;
+            }
+            launch(SECONDARY, secondary);
+            return true;
+        }
+
+        /**
+         * 요청 1건 제출 (호출 전에 pending을 올려 두어야 함)
+         */
+        private void launch(String provider, ChatClient client) {
+            Future<?> attempt = callExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    ChatResponse response = request(client, type, prompt, candidates)
+                            .call()
+                            .chatResponse();
+                    if (!isValid(response)) {
+                        throw new AiUnavailableException("AI 응답이 비어 있습니다.");
+                    }
+                    recordPrimaryLatency(provider, start);
+                    if (result.complete(response)) {
+                        countWin(type, provider, decided);
+                    }
+                } catch (Throwable e) {
+                    // 실패하거나 취소된 요청은 지연 시간 기록에서 제외 (헤지 기준이 끌려 올라가지 않도록)
+                    onFailure(provider, e);
+                }
+            });
+            attempts.add(attempt);
+            if (result.isDone()) {
+                attempt.cancel(true);
+            }
+        }
+
+        private void onFailure(String provider, Throwable error) {
+            firstError.compareAndSet(null, error);
+
+            // 빈 응답도 유효하지 않은 응답이므로 보조 제공자로 전환
+            boolean failover = isFailover(error) || error instanceof AiUnavailableException;
+            if (PRIMARY.equals(provider) && !result.isDone() && failover && launchSecondary()) {
+                countFailover(type, error);
+            }
+
+            release();
+        }
+
+        private void release() {
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(firstError.get());
+            }
+        }
+
+        private void recordPrimaryLatency(String provider, long start) {
+            if (PRIMARY.equals(provider)) {
+                callLatency.get(type).record(Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+
+        private boolean isValid(ChatResponse response) {
+            return response != null
+                    && response.getResult() != null
+                    && response.getResult().getOutput() != null
+                    && response.getResult().getOutput().getText() != null
+                    && !response.getResult().getOutput().getText().isBlank();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.dto.AiTurnResponse;
+import com.example.doublecross.dto.GenreAnalysis;
+import com.example.doublecross.dto.KeywordGuessResponse;
+import com.example.doublecross.dto.StoryWriteResponse;
+import com.example.doublecross.dto.TurnGenreScore;
+
+/**
+ * AI 호출 작업 종류 (작업별로 동시 실행 수와 메트릭을 분리)
+ * outputType이 있으면 해당 record의 JSON 스키마로 응답 형식을 지정
+ */
+public enum AiTaskType {
+    STORY_WRITER(StoryWriteResponse.class),
+    GENRE_JUDGE(GenreAnalysis.class),
+    GENRE_TURN_JUDGE(TurnGenreScore.class),
+    KEYWORD_GUESSER(KeywordGuessResponse.class),
+    AI_TURN(AiTurnResponse.class),
+    SUMMARIZER(null);
+
+    private final Class<?> outputType;
+
+    AiTaskType(Class<?> outputType) {
+        this.outputType = outputType;
+    }
+
+    /**
+     * JSON 응답 타입 (자유 텍스트 응답이면 null)
+     */
+    public Class<?> outputType() {
+        return outputType;
+    }
+}
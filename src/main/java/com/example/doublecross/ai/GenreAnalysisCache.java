@@ -0,0 +1,165 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.dto.GenreAnalysis;
+import com.example.doublecross.prompt.PromptTemplates;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 장르 판정 결과 캐시 (같은 스토리를 다시 판정할 때 LLM 호출 생략)
+ * - 키: 정규화한 스토리 + 프롬프트 버전 + 모델의 SHA-256
+ *   (PromptTemplates.GENRE_JUDGE_* 가 바뀌면 프롬프트 버전이 바뀌어 이전 결과는 자동으로 무효)
+ * - 1차: 프로세스 내 Caffeine (같은 키의 동시 요청은 한 번만 판정)
+ * - 2차: Redis (인스턴스 간 공유, 재시작 후에도 유지)
+ */
+@Slf4j
+@Component
+public class GenreAnalysisCache {
+
+    private static final String REDIS_KEY_PREFIX = "ai:genre-analysis:";
+
+    private final AsyncCache<String, GenreAnalysis> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.GenreCache properties;
+    private final String keyPrefix;
+
+    public GenreAnalysisCache(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              AiProperties aiProperties,
+                              @Value("${spring.ai.openai.chat.options.model:}") String model) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = aiProperties.genreCache();
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize())
+                .expireAfterWrite(properties.localTtl())
+                .buildAsync();
+
+        String promptVersion = sha256(PromptTemplates.GENRE_JUDGE_SYSTEM_PROMPT
+                + PromptTemplates.GENRE_JUDGE_USER_PROMPT).substring(0, 12);
+        this.keyPrefix = promptVersion + "\n" + model + "\n";
+
+        log.info("Genre analysis cache: prompt version {}, model {}", promptVersion, model);
+    }
+
+    /**
+     * 캐시된 판정 결과 조회, 없으면 판정 후 저장
+     *
+     * @param story 판정할 스토리
+     * @param judge 캐시에 없을 때 실행할 판정
+     */
+    public GenreAnalysis get(String story, Supplier<GenreAnalysis> judge) {
+        if (!properties.enabled()) {
+            return judge.get();
+        }
+
+        String key = sha256(keyPrefix + normalize(story));
+
+        CompletableFuture<GenreAnalysis> pending = new CompletableFuture<>();
+        CompletableFuture<GenreAnalysis> existing = local.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            count("local");
+            return join(existing);
+        }
+
+        try {
+            GenreAnalysis analysis = loadFromRedis(key);
+            if (analysis != null) {
+                count("redis");
+            } else {
+                count("miss");
+                analysis = judge.get();
+                saveToRedis(key, analysis);
+            }
+            pending.complete(analysis);
+            return analysis;
+        } catch (Throwable e) {
+            // 실패한 결과는 캐시하지 않음 (AsyncCache가 실패한 future를 제거)
+            // Error도 전달해야 같은 키를 기다리는 요청이 영원히 멈추지 않음
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private GenreAnalysis loadFromRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, GenreAnalysis.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read genre analysis cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToRedis(String key, GenreAnalysis analysis) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key,
+                    objectMapper.writeValueAsString(analysis), properties.redisTtl());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write genre analysis cache: {}", e.getMessage());
+        }
+    }
+
+    private GenreAnalysis join(CompletableFuture<GenreAnalysis> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("ai.cache.genre.analysis")
+                .description("Genre analysis cache lookups (local/redis = hit tier, miss = judged by the model)")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 스토리 정규화 (유니코드 NFC, 연속 공백 하나로)
+     */
+    static String normalize(String story) {
+        return Normalizer.normalize(story, Normalizer.Form.NFC)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
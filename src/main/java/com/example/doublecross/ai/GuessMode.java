@@ -0,0 +1,13 @@
+package com.example.doublecross.ai;
+
+/**
+ * AI 제시어 추측 방식
+ */
+public enum GuessMode {
+    /** 스토리 작성 호출에 추측을 함께 요청 (AI 턴당 모델 호출 1회) */
+    FUSED,
+    /** 추측 분석을 스토리 작성과 같은 스냅샷으로 동시에 호출 (AI 턴 시간은 두 호출 중 긴 쪽) */
+    PARALLEL,
+    /** 추측하지 않음 */
+    OFF
+}
@@ -0,0 +1,47 @@
+package com.example.doublecross.ai;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 N개 지연 시간 기록 (고정 크기 순환 버퍼)
+ * 헤지 요청 기준 시간(percentile) 계산용
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(Duration latency) {
+        samples[next] = latency.toMillis();
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 기록된 지연 시간의 백분위 값
+     *
+     * @param percentile 0~1
+     * @param fallback 기록이 부족할 때 반환할 값
+     */
+    public Duration percentile(double percentile, Duration fallback) {
+        long[] copy;
+        synchronized (this) {
+            // 표본이 너무 적으면 percentile이 의미 없음
+            if (size < 10) {
+                return fallback;
+            }
+            copy = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return Duration.ofMillis(copy[Math.max(0, Math.min(index, copy.length - 1))]);
+    }
+}
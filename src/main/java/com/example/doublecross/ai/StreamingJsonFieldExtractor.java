@@ -0,0 +1,133 @@
+package com.example.doublecross.ai;
+
+/**
+ * 스트리밍 중인 JSON 응답에서 특정 문자열 필드 값만 점진적으로 추출
+ * - 청크가 들어올 때마다 새로 확정된 문자열 조각만 반환
+ * - 이스케이프 시퀀스가 청크 경계에서 잘려도 다음 청크에서 이어서 처리
+ */
+public class StreamingJsonFieldExtractor {
+
+    private enum State {
+        SEEK_KEY,
+        SEEK_COLON,
+        SEEK_QUOTE,
+        IN_STRING,
+        DONE
+    }
+
+    private final String keyToken;
+    private final StringBuilder raw = new StringBuilder();
+    private int pos = 0;
+    private State state = State.SEEK_KEY;
+
+    public StreamingJsonFieldExtractor(String fieldName) {
+        this.keyToken = "\"" + fieldName + "\"";
+    }
+
+    /**
+     * 청크를 추가하고 이번에 새로 확정된 필드 값 조각을 반환
+     */
+    public String feed(String chunk) {
+        if (chunk == null || chunk.isEmpty() || state == State.DONE) {
+            return "";
+        }
+        raw.append(chunk);
+
+        StringBuilder out = new StringBuilder();
+        while (pos < raw.length() && state != State.DONE) {
+            char c = raw.charAt(pos);
+            switch (state) {
+                case SEEK_KEY -> {
+                    int idx = raw.indexOf(keyToken, pos);
+                    if (idx < 0) {
+                        // 키가 청크 경계에 걸쳐 있을 수 있으므로 끝부분은 다시 검사
+                        pos = Math.max(pos, raw.length() - keyToken.length() + 1);
+                        return out.toString();
+                    }
+                    pos = idx + keyToken.length();
+                    state = State.SEEK_COLON;
+                }
+                case SEEK_COLON -> {
+                    if (Character.isWhitespace(c)) {
+                        pos++;
+                    } else if (c == ':') {
+                        pos++;
+                        state = State.SEEK_QUOTE;
+                    } else {
+                        // 키가 아니라 값 안에 등장한 문자열이었음
+                        state = State.SEEK_KEY;
+                    }
+                }
+                case SEEK_QUOTE -> {
+                    if (Character.isWhitespace(c)) {
+                        pos++;
+                    } else if (c == '"') {
+                        pos++;
+                        state = State.IN_STRING;
+                    } else {
+                        state = State.SEEK_KEY;
+                    }
+                }
+                case IN_STRING -> {
+                    if (c == '"') {
+                        pos++;
+                        state = State.DONE;
+                    } else if (c == '\\') {
+                        if (!appendEscape(out)) {
+                            return out.toString();
+                        }
+                    } else {
+                        out.append(c);
+                        pos++;
+                    }
+                }
+                default -> {
+                    return out.toString();
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 필드 값이 끝까지 수신되었는지 여부
+     */
+    public boolean isComplete() {
+        return state == State.DONE;
+    }
+
+    /**
+     * 이스케이프 시퀀스 처리
+     * @return 시퀀스가 아직 다 도착하지 않았으면 false
+     */
+    private boolean appendEscape(StringBuilder out) {
+        if (pos + 1 >= raw.length()) {
+            return false;
+        }
+        char escaped = raw.charAt(pos + 1);
+        if (escaped == 'u') {
+            if (pos + 6 > raw.length()) {
+                return false;
+            }
+            String hex = raw.substring(pos + 2, pos + 6);
+            try {
+                out.append((char) Integer.parseInt(hex, 16));
+            } catch (NumberFormatException e) {
+                out.append("\\u").append(hex);
+            }
+            pos += 6;
+            return true;
+        }
+
+        switch (escaped) {
+            case 'n' -> out.append('\n');
+            case 't' -> out.append('\t');
+            case 'r' -> out.append('\r');
+            case 'b' -> out.append('\b');
+            case 'f' -> out.append('\f');
+            default -> out.append(escaped);  // \" \\ \/
+        }
+        pos += 2;
+        return true;
+    }
+}
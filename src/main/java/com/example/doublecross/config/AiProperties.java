@@ -0,0 +1,293 @@
+package com.example.doublecross.config;
+
+import com.example.doublecross.ai.AiTaskType;
+import com.example.doublecross.ai.GuessMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * AI 호출 설정 (game.ai.*)
+ */
+@ConfigurationProperties(prefix = "game.ai")
+public record AiProperties(
+        Gateway gateway,
+        Secondary secondary,
+        Hedge hedge,
+        GenreCache genreCache,
+        ContextBudget contextBudget,
+        Conversation conversation,
+        StructuredOutput structuredOutput,
+        Candidates candidates,
+        Guess guess,
+        IncrementalJudge incrementalJudge
+) {
+    public AiProperties {
+        if (gateway == null) {
+            gateway = new Gateway(null, null, null);
+        }
+        if (secondary == null) {
+            secondary = new Secondary(false, null, null, null);
+        }
+        if (hedge == null) {
+            hedge = new Hedge(true, null, 0, 0);
+        }
+        if (genreCache == null) {
+            genreCache = new GenreCache(true, 0, null, null);
+        }
+        if (contextBudget == null) {
+            contextBudget = new ContextBudget(false, 0, 0);
+        }
+        if (conversation == null) {
+            conversation = new Conversation(false, null, 0);
+        }
+        if (structuredOutput == null) {
+            structuredOutput = new StructuredOutput(true);
+        }
+        if (candidates == null) {
+            candidates = new Candidates(false, 0);
+        }
+        if (guess == null) {
+            guess = new Guess(null, 0, false, 0);
+        }
+        if (incrementalJudge == null) {
+            incrementalJudge = new IncrementalJudge(false, 0, null, null);
+        }
+    }
+
+    /**
+     * @param maxConcurrent 작업 종류별 최대 동시 호출 수
+     * @param maxQueueWait 동시 호출 한도 초과 시 대기할 최대 시간 (초과하면 거절)
+     * @param defaultTimeout 턴 데드라인이 없는 호출(장르 판정 등)의 제한 시간
+     */
+    public record Gateway(
+            Map<AiTaskType, Integer> maxConcurrent,
+            Duration maxQueueWait,
+            Duration defaultTimeout
+    ) {
+        private static final int DEFAULT_MAX_CONCURRENT = 8;
+
+        public Gateway {
+            Map<AiTaskType, Integer> limits = new EnumMap<>(AiTaskType.class);
+            if (maxConcurrent != null) {
+                limits.putAll(maxConcurrent);
+            }
+            maxConcurrent = limits;
+            if (maxQueueWait == null) {
+                maxQueueWait = Duration.ofSeconds(10);
+            }
+            if (defaultTimeout == null) {
+                defaultTimeout = Duration.ofSeconds(60);
+            }
+        }
+
+        public int concurrencyFor(AiTaskType type) {
+            return maxConcurrent.getOrDefault(type, DEFAULT_MAX_CONCURRENT);
+        }
+    }
+
+    /**
+     * 보조 모델 제공자 (OpenAI 호환 API: Ollama, llama.cpp 서버 등)
+     *
+     * @param enabled 사용 여부 (비활성화 시 기본 제공자만 사용)
+     * @param baseUrl API 주소 (예: http://localhost:11434)
+     * @param apiKey API 키 (로컬 서버는 임의 값)
+     * @param model 모델 이름
+     */
+    public record Secondary(
+            boolean enabled,
+            String baseUrl,
+            String apiKey,
+            String model
+    ) {
+        public Secondary {
+            if (apiKey == null || apiKey.isBlank()) {
+                apiKey = "none";
+            }
+        }
+    }
+
+    /**
+     * 헤지 요청 설정
+     * 기본 제공자가 최근 지연 시간의 percentile 안에 응답하지 않으면 보조 제공자에도 같은 요청을 보냄
+     *
+     * @param enabled 사용 여부 (비활성화해도 5xx/429 장애 전환은 동작)
+     * @param minDelay 헤지 요청 전 최소 대기 시간 (지연 기록이 부족할 때 기본값)
+     * @param percentile 헤지 기준 지연 시간 백분위 (0~1)
+     * @param windowSize 지연 시간 기록 개수
+     */
+    public record Hedge(
+            boolean enabled,
+            Duration minDelay,
+            double percentile,
+            int windowSize
+    ) {
+        public Hedge {
+            if (minDelay == null) {
+                minDelay = Duration.ofSeconds(2);
+            }
+            if (percentile <= 0 || percentile >= 1) {
+                percentile = 0.9;
+            }
+            if (windowSize <= 0) {
+                windowSize = 200;
+            }
+        }
+    }
+
+    /**
+     * 장르 판정 결과 캐시 설정
+     *
+     * @param enabled 사용 여부
+     * @param localMaxSize 프로세스 내 캐시 최대 항목 수
+     * @param localTtl 프로세스 내 캐시 유지 시간
+     * @param redisTtl Redis 캐시 유지 시간
+     */
+    public record GenreCache(
+            boolean enabled,
+            long localMaxSize,
+            Duration localTtl,
+            Duration redisTtl
+    ) {
+        public GenreCache {
+            if (localMaxSize <= 0) {
+                localMaxSize = 1000;
+            }
+            if (localTtl == null) {
+                localTtl = Duration.ofHours(1);
+            }
+            if (redisTtl == null) {
+                redisTtl = Duration.ofDays(7);
+            }
+        }
+    }
+
+    /**
+     * 프롬프트 스토리 길이 제한 (긴 게임용)
+     * 최근 recentTurns개 턴은 원문 그대로, 그 이전 턴은 백그라운드에서 만든 요약으로 대체
+     *
+     * @param enabled 사용 여부
+     * @param recentTurns 원문으로 유지할 최근 턴 수
+     * @param summarizeEvery 요약되지 않은 이전 턴이 이만큼 쌓이면 요약 갱신
+     */
+    public record ContextBudget(
+            boolean enabled,
+            int recentTurns,
+            int summarizeEvery
+    ) {
+        public ContextBudget {
+            if (recentTurns <= 0) {
+                recentTurns = 4;
+            }
+            if (summarizeEvery <= 0) {
+                summarizeEvery = 3;
+            }
+        }
+    }
+
+    /**
+     * Story Writer 대화 이어가기 설정
+     * 세션별 대화 기록을 유지하고 매 턴에는 지난 AI 턴 이후 추가된 문장만 새로 보냄
+     *
+     * @param enabled 사용 여부 (비활성화 시 매 턴 전체 스토리 전송)
+     * @param ttl 마지막 턴 이후 대화 핸들 유지 시간 (만료되면 전체 스토리로 새 대화 시작)
+     * @param maxTurns 한 대화에 이어 붙일 최대 AI 턴 수 (넘으면 전체 스토리로 새 대화 시작)
+     */
+    public record Conversation(
+            boolean enabled,
+            Duration ttl,
+            int maxTurns
+    ) {
+        public Conversation {
+            if (ttl == null) {
+                ttl = Duration.ofMinutes(30);
+            }
+            if (maxTurns <= 0) {
+                maxTurns = 4;
+            }
+        }
+    }
+
+    /**
+     * JSON 응답 작업에 응답 DTO에서 만든 JSON 스키마를 응답 형식으로 지정
+     *
+     * @param enabled 사용 여부 (json_schema 응답 형식을 지원하지 않는 제공자면 비활성화)
+     */
+    public record StructuredOutput(
+            boolean enabled
+    ) {}
+
+    /**
+     * 제시어를 써야 하는 AI 턴에서 후보 문장을 여러 개 받아 로컬에서 고르는 설정
+     *
+     * @param enabled 사용 여부
+     * @param count 한 번의 호출로 받을 후보 수 (제공자의 n 파라미터)
+     */
+    public record Candidates(
+            boolean enabled,
+            int count
+    ) {
+        public Candidates {
+            if (count <= 1) {
+                count = 3;
+            }
+        }
+    }
+
+    /**
+     * AI 제시어 추측 설정
+     *
+     * @param mode 추측 방식 (FUSED: 스토리 작성 호출에 함께 요청, PARALLEL: 별도 호출을 동시에 실행, OFF: 추측하지 않음)
+     * @param minConfidence 이 확신도 이상일 때만 추측 실행 (0-100)
+     * @param prefilter 상대 문장에 의심 단어가 없으면 LLM 추측을 건너뛸지
+     * @param prefilterThreshold LLM 추측을 호출할 최소 의심 점수 (0-1)
+     */
+    public record Guess(
+            GuessMode mode,
+            int minConfidence,
+            boolean prefilter,
+            double prefilterThreshold
+    ) {
+        public Guess {
+            if (mode == null) {
+                mode = GuessMode.FUSED;
+            }
+            if (minConfidence <= 0) {
+                minConfidence = 70;
+            }
+            if (prefilterThreshold <= 0 || prefilterThreshold > 1) {
+                prefilterThreshold = 0.6;
+            }
+        }
+    }
+
+    /**
+     * 턴별 장르 판정
+     * 매 턴 저장 후 새 문장만 백그라운드로 판정해 두고, 게임 종료 시 전체 스토리 판정 대신 턴별 결과를 집계
+     *
+     * @param enabled 사용 여부 (비활성화 시 게임 종료 시 전체 스토리 판정)
+     * @param maxMissingTurns 종료 시점에 판정되지 않은 턴이 이 수 이하면 그 턴만 바로 판정하고, 넘으면 전체 스토리 판정
+     * @param ttl 턴별 판정 결과 보관 시간
+     * @param inFlightWait 종료 시 집계 전에 진행 중인 턴 판정을 기다리는 최대 시간 (넘으면 그 턴은 바로 판정)
+     */
+    public record IncrementalJudge(
+            boolean enabled,
+            int maxMissingTurns,
+            Duration ttl,
+            Duration inFlightWait
+    ) {
+        public IncrementalJudge {
+            if (maxMissingTurns <= 0) {
+                maxMissingTurns = 2;
+            }
+            if (ttl == null) {
+                ttl = Duration.ofHours(2);
+            }
+            if (inFlightWait == null) {
+                inFlightWait = Duration.ofSeconds(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.doublecross.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
+
+@Slf4j
+@Configuration
+public class AiProviderConfig {
+
+    /**
+     * 보조 모델 제공자 ChatClient (OpenAI 호환 API)
+     * 장애 전환/헤지 용도이므로 자체 재시도 없이 한 번만 호출
+     */
+    @Bean(name = "secondaryChatClient")
+    @ConditionalOnProperty(prefix = "game.ai.secondary", name = "enabled", havingValue = "true")
+    public ChatClient secondaryChatClient(AiProperties aiProperties) {
+        AiProperties.Secondary secondary = aiProperties.secondary();
+
+        OpenAiApi api = OpenAiApi.builder()
+                .baseUrl(secondary.baseUrl())
+                .apiKey(secondary.apiKey())
+                .build();
+
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(api)
+                .defaultOptions(OpenAiChatOptions.builder()
+                        .model(secondary.model())
+                        .streamUsage(true)
+                        .build())
+                .retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+                .build();
+
+        log.info("Secondary AI provider enabled: {} ({})", secondary.baseUrl(), secondary.model());
+        return ChatClient.builder(chatModel).build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.doublecross.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 게임 종료 후 장르 판정 전용 실행기
+     * 턴 처리 스레드와 분리하여 마지막 턴 응답이 판정을 기다리지 않도록 함
+     */
+    @Bean(name = "judgeExecutor")
+    public ThreadPoolTaskExecutor judgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("judge-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 세션 명령 실행기 (가상 스레드)
+     * AI 턴의 LLM 응답을 기다리는 동안에도 STOMP inbound 스레드나 다른 세션을 막지 않음
+     */
+    @Bean(name = "sessionCommandExecutor", destroyMethod = "close")
+    public ExecutorService sessionCommandExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("session-", 0).factory());
+    }
+
+    /**
+     * AI 호출 실행기 (가상 스레드)
+     * 데드라인이 지나면 호출 스레드를 인터럽트하여 응답 없는 연결을 끊음
+     */
+    @Bean(name = "aiCallExecutor", destroyMethod = "close")
+    public ExecutorService aiCallExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-call-", 0).factory());
+    }
+}
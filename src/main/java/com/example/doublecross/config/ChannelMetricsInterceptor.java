@@ -0,0 +1,49 @@
+package com.example.doublecross.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * STOMP 채널 메시지 처리 시간 측정
+ * 실행기 큐/스레드 메트릭은 Actuator가 clientInbound/OutboundChannelExecutor 빈에 자동으로 등록
+ */
+public class ChannelMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String channel;
+    private final ThreadLocal<Timer.Sample> sample = new ThreadLocal<>();
+
+    public ChannelMetricsInterceptor(MeterRegistry meterRegistry, String channel) {
+        this.meterRegistry = meterRegistry;
+        this.channel = channel;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        sample.set(Timer.start(meterRegistry));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Timer.Sample started = sample.get();
+        sample.remove();
+        if (started == null) {
+            return;
+        }
+
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        started.stop(Timer.builder("game.stomp.channel.handle")
+                .description("STOMP channel message handling time")
+                .tag("channel", this.channel)
+                .tag("type", type != null ? type.name() : "UNKNOWN")
+                .tag("outcome", ex == null ? "SUCCESS" : "ERROR")
+                .register(meterRegistry));
+    }
+}
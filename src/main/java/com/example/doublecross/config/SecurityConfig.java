@@ -1,11 +1,19 @@
 package com.example.doublecross.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -13,7 +21,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -31,14 +41,21 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+                // 관리자 API 인증 (HTTP Basic)
+                .httpBasic(Customizer.withDefaults())
+
                 // 요청 인가 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 관리자 API는 ADMIN 권한 필요
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // API 엔드포인트 허용
                         .requestMatchers("/api/**").permitAll()
                         // WebSocket 엔드포인트 허용
                         .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/ws/game/**").permitAll()
                         .requestMatchers("/ws/info/**").permitAll()
+                        // 메트릭은 내부 운영 정보라 ADMIN 권한 필요
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         // Actuator 허용 (모니터링)
                         .requestMatchers("/actuator/**").permitAll()
                         // 그 외 모든 요청은 인증 필요 (추후 확장 시)
@@ -48,6 +65,24 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리자 계정 (ADMIN_USERNAME / ADMIN_PASSWORD)
+     * 비밀번호가 설정되지 않으면 임의 값으로 만들어 관리자 API를 사실상 막음
+     */
+    @Bean
+    public UserDetailsService userDetailsService(@Value("${game.admin.username:admin}") String username,
+                                                 @Value("${game.admin.password:}") String password) {
+        PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        if (password.isBlank()) {
+            log.warn("game.admin.password is not set, admin API is disabled");
+            password = UUID.randomUUID().toString();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(encoder.encode(password))
+                .roles("ADMIN")
+                .build());
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -1,6 +1,9 @@
 package com.example.doublecross.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -11,8 +14,13 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 @Configuration
 @EnableWebSocketMessageBroker
 @EnableScheduling
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private final MeterRegistry meterRegistry;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 수 있는 목적지 prefix
@@ -24,6 +32,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 특정 사용자에게 메시지 전송 시 사용할 prefix
         config.setUserDestinationPrefix("/user");
+
+        // 같은 클라이언트로 가는 메시지 순서 보장 (AI_TURN_DELTA 등)
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -36,6 +47,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // SockJS 없이 순수 WebSocket 엔드포인트
         registry.addEndpoint("/ws/game")
                 .setAllowedOriginPatterns("*");
+
+        // 같은 클라이언트가 보낸 메시지는 받은 순서대로 처리
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // AI 턴은 별도 가상 스레드에서 실행되므로 inbound 스레드는 짧은 DB 작업만 처리
+        registration.taskExecutor()
+                .corePoolSize(CORES * 2)
+                .maxPoolSize(CORES * 4)
+                .queueCapacity(1000)
+                .keepAliveSeconds(60);
+        registration.interceptors(new ChannelMetricsInterceptor(meterRegistry, "inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(CORES * 2)
+                .maxPoolSize(CORES * 4)
+                .queueCapacity(5000)
+                .keepAliveSeconds(60);
+        registration.interceptors(new ChannelMetricsInterceptor(meterRegistry, "outbound"));
     }
 
     @Override
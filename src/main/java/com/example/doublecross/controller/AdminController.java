@@ -0,0 +1,54 @@
+package com.example.doublecross.controller;
+
+import com.example.doublecross.dto.response.KeywordImportResponse;
+import com.example.doublecross.service.KeywordCatalog;
+import com.example.doublecross.service.KeywordImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final KeywordCatalog keywordCatalog;
+    private final KeywordImportService keywordImportService;
+
+    /**
+     * POST /api/admin/keywords/reload - 제시어 카탈로그 다시 읽기
+     */
+    @PostMapping("/keywords/reload")
+    public ResponseEntity<Map<String, Object>> reloadKeywords() {
+        int count = keywordCatalog.reload();
+
+        log.info("Keyword catalog reloaded by admin request ({} keywords)", count);
+
+        return ResponseEntity.ok(Map.of("success", true, "keywords", count));
+    }
+
+    /**
+     * POST /api/admin/keywords/import - 제시어 일괄 등록
+     * 요청 본문(text/csv 또는 text/tab-separated-values)을 그대로 COPY로 흘려 넣음
+     */
+    @PostMapping(value = "/keywords/import", consumes = {"text/csv", "text/tab-separated-values"})
+    public ResponseEntity<KeywordImportResponse> importKeywords(HttpServletRequest request) throws IOException {
+        KeywordImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/tab-separated-values"))
+                ? KeywordImportService.Format.TSV
+                : KeywordImportService.Format.CSV;
+
+        KeywordImportResponse response = keywordImportService.importKeywords(request.getInputStream(), format);
+
+        return ResponseEntity.ok(response);
+    }
+}
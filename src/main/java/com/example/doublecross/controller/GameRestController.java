@@ -15,12 +15,16 @@ import com.example.doublecross.dto.request.SubmitStoryRequest;
 import com.example.doublecross.dto.response.GameResponse;
 import com.example.doublecross.dto.response.GameResultResponse;
 import com.example.doublecross.dto.response.GuessResponse;
+import com.example.doublecross.dto.response.ResultPendingResponse;
 import com.example.doublecross.dto.response.StoryResponse;
 import com.example.doublecross.exception.GameException;
+import com.example.doublecross.service.GameFinalizationService;
 import com.example.doublecross.service.GameService;
 import com.example.doublecross.service.GuessService;
 import com.example.doublecross.service.ScoreService;
+import com.example.doublecross.service.SessionCommandExecutor;
 import com.example.doublecross.service.StoryService;
+import com.example.doublecross.service.TimerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +46,9 @@ public class GameRestController {
     private final StoryService storyService;
     private final GuessService guessService;
     private final ScoreService scoreService;
+    private final GameFinalizationService gameFinalizationService;
+    private final SessionCommandExecutor sessionCommands;
+    private final TimerService timerService;
 
     /**
      * POST /api/games - 새 게임 생성
@@ -92,7 +99,7 @@ public class GameRestController {
     public ResponseEntity<GameResponse> startGame(@PathVariable UUID sessionId) {
         log.info("Starting game: {}", sessionId);
 
-        GameSession session = gameService.startGame(sessionId);
+        GameSession session = sessionCommands.call(sessionId, () -> gameService.startGame(sessionId));
         Participant player = gameService.getParticipant(sessionId, ParticipantType.PLAYER);
         List<StoryEntry> storyEntries = storyService.getStoryEntries(sessionId);
 
@@ -108,7 +115,10 @@ public class GameRestController {
     public ResponseEntity<Void> cancelGame(@PathVariable UUID sessionId) {
         log.info("Cancelling game: {}", sessionId);
 
-        gameService.cancelGame(sessionId);
+        sessionCommands.call(sessionId, () -> {
+            gameService.cancelGame(sessionId);
+            return null;
+        });
 
         return ResponseEntity.noContent().build();
     }
@@ -123,48 +133,51 @@ public class GameRestController {
     ) {
         log.info("Player submitting story for session: {}", sessionId);
 
-        GameSession session = gameService.getSession(sessionId);
-
-        if (session.getStatus() != GameStatus.IN_PROGRESS) {
-            throw new GameException("진행 중인 게임이 아닙니다.");
-        }
-
-        // 플레이어 턴인지 확인
-        ParticipantType currentAuthor = gameService.getCurrentTurnAuthor(session);
-        if (currentAuthor != ParticipantType.PLAYER) {
-            throw new GameException("플레이어 턴이 아닙니다.");
-        }
-
-        // 스토리 제출
-        StorySubmitResult result = storyService.submitPlayerStory(
-                session,
-                request.content(),
-                request.useKeyword(),
-                request.timeSpent()
-        );
-
-        // 턴 진행
-        boolean shouldFinish = gameService.advanceTurn(sessionId);
-
-        // 게임 종료 처리
-        if (shouldFinish) {
-            gameService.finishGame(sessionId);
-        }
-
-        // 다음 턴 정보
-        session = gameService.getSession(sessionId);
-        int nextTurn = session.getCurrentTurn();
-        ParticipantType nextAuthor = gameService.getCurrentTurnAuthor(session);
-        Integer timeLimit = session.getStatus() == GameStatus.IN_PROGRESS ? session.getTurnTimeLimit() : null;
-
-        StoryResponse response = StoryResponse.success(
-                result.getTurn(),
-                result.isKeywordUsed(),
-                result.getKeywordStatus(),
-                nextTurn,
-                nextAuthor,
-                timeLimit
-        );
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        StoryResponse response = sessionCommands.call(sessionId, () -> {
+            GameSession session = gameService.getSession(sessionId);
+
+            if (session.getStatus() != GameStatus.IN_PROGRESS) {
+                throw new GameException("진행 중인 게임이 아닙니다.");
+            }
+
+            // 플레이어 턴인지 확인
+            ParticipantType currentAuthor = gameService.getCurrentTurnAuthor(session);
+            if (currentAuthor != ParticipantType.PLAYER) {
+                throw new GameException("플레이어 턴이 아닙니다.");
+            }
+
+            // 스토리 제출
+            StorySubmitResult result = storyService.submitPlayerStory(
+                    session,
+                    request.content(),
+                    request.useKeyword(),
+                    request.timeSpent()
+            );
+
+            // 턴 진행
+            boolean shouldFinish = gameService.advanceTurn(sessionId);
+
+            // 게임 종료 처리 (장르 판정은 비동기로 진행)
+            if (shouldFinish) {
+                gameFinalizationService.requestFinish(sessionId);
+            }
+
+            // 다음 턴 정보
+            session = gameService.getSession(sessionId);
+            int nextTurn = session.getCurrentTurn();
+            ParticipantType nextAuthor = gameService.getCurrentTurnAuthor(session);
+            Integer timeLimit = session.getStatus() == GameStatus.IN_PROGRESS ? session.getTurnTimeLimit() : null;
+
+            return StoryResponse.success(
+                    result.getTurn(),
+                    result.isKeywordUsed(),
+                    result.getKeywordStatus(),
+                    nextTurn,
+                    nextAuthor,
+                    timeLimit
+            );
+        });
 
         return ResponseEntity.ok(response);
     }
@@ -179,13 +192,16 @@ public class GameRestController {
     ) {
         log.info("Player guessing for session: {}, word: {}", sessionId, request.guessWord());
 
-        GameSession session = gameService.getSession(sessionId);
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        GuessResult result = sessionCommands.call(sessionId, () -> {
+            GameSession session = gameService.getSession(sessionId);
 
-        if (session.getStatus() != GameStatus.IN_PROGRESS) {
-            throw new GameException("진행 중인 게임이 아닙니다.");
-        }
+            if (session.getStatus() != GameStatus.IN_PROGRESS) {
+                throw new GameException("진행 중인 게임이 아닙니다.");
+            }
 
-        GuessResult result = guessService.processGuess(session, ParticipantType.PLAYER, request.guessWord());
+            return guessService.processGuess(session, ParticipantType.PLAYER, request.guessWord());
+        });
 
         GuessResponse response = GuessResponse.from(result);
 
@@ -194,13 +210,19 @@ public class GameRestController {
 
     /**
      * GET /api/games/{sessionId}/result - 게임 결과 조회
+     * 장르 판정 중이면 202 Accepted와 진행 상황 반환
      */
     @GetMapping("/{sessionId}/result")
-    public ResponseEntity<GameResultResponse> getResult(@PathVariable UUID sessionId) {
+    public ResponseEntity<?> getResult(@PathVariable UUID sessionId) {
         log.info("Getting result for session: {}", sessionId);
 
         GameSession session = gameService.getSession(sessionId);
 
+        if (session.getStatus() == GameStatus.JUDGING) {
+            ResultPendingResponse pending = gameFinalizationService.getProgress(sessionId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(pending);
+        }
+
         if (session.getStatus() != GameStatus.FINISHED) {
             throw new GameException("아직 종료되지 않은 게임입니다.");
         }
@@ -229,43 +251,47 @@ public class GameRestController {
     ) {
         log.info("Executing AI turn for session: {}", sessionId);
 
-        GameSession session = gameService.getSession(sessionId);
-
-        if (session.getStatus() != GameStatus.IN_PROGRESS) {
-            throw new GameException("진행 중인 게임이 아닙니다.");
-        }
-
-        // AI 턴인지 확인
-        ParticipantType currentAuthor = gameService.getCurrentTurnAuthor(session);
-        if (currentAuthor != ParticipantType.AI) {
-            throw new GameException("AI 턴이 아닙니다.");
-        }
-
-        // AI 스토리 생성
-        StorySubmitResult result = storyService.generateAiStory(session, useKeyword);
-
-        // 턴 진행
-        boolean shouldFinish = gameService.advanceTurn(sessionId);
-
-        // 게임 종료 처리
-        if (shouldFinish) {
-            gameService.finishGame(sessionId);
-        }
-
-        // 다음 턴 정보
-        session = gameService.getSession(sessionId);
-        int nextTurn = session.getCurrentTurn();
-        ParticipantType nextAuthor = gameService.getCurrentTurnAuthor(session);
-        Integer timeLimit = session.getStatus() == GameStatus.IN_PROGRESS ? session.getTurnTimeLimit() : null;
-
-        StoryResponse response = StoryResponse.success(
-                result.getTurn(),
-                result.isKeywordUsed(),
-                result.getKeywordStatus(),
-                nextTurn,
-                nextAuthor,
-                timeLimit
-        );
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        StoryResponse response = sessionCommands.call(sessionId, () -> {
+            GameSession session = gameService.getSession(sessionId);
+
+            if (session.getStatus() != GameStatus.IN_PROGRESS) {
+                throw new GameException("진행 중인 게임이 아닙니다.");
+            }
+
+            // AI 턴인지 확인
+            ParticipantType currentAuthor = gameService.getCurrentTurnAuthor(session);
+            if (currentAuthor != ParticipantType.AI) {
+                throw new GameException("AI 턴이 아닙니다.");
+            }
+
+            // AI 턴 타이머 시작 후 스토리 생성 (남은 턴 시간이 LLM 호출 데드라인)
+            timerService.startTurnTimer(sessionId, session.getTurnTimeLimit());
+            StorySubmitResult result = storyService.generateAiStory(session, useKeyword);
+
+            // 턴 진행
+            boolean shouldFinish = gameService.advanceTurn(sessionId);
+
+            // 게임 종료 처리 (장르 판정은 비동기로 진행)
+            if (shouldFinish) {
+                gameFinalizationService.requestFinish(sessionId);
+            }
+
+            // 다음 턴 정보
+            session = gameService.getSession(sessionId);
+            int nextTurn = session.getCurrentTurn();
+            ParticipantType nextAuthor = gameService.getCurrentTurnAuthor(session);
+            Integer timeLimit = session.getStatus() == GameStatus.IN_PROGRESS ? session.getTurnTimeLimit() : null;
+
+            return StoryResponse.success(
+                    result.getTurn(),
+                    result.isKeywordUsed(),
+                    result.getKeywordStatus(),
+                    nextTurn,
+                    nextAuthor,
+                    timeLimit
+            );
+        });
 
         return ResponseEntity.ok(response);
     }
@@ -3,14 +3,19 @@ package com.example.doublecross.controller;
 import com.example.doublecross.domain.entity.GameSession;
 import com.example.doublecross.domain.enums.GameStatus;
 import com.example.doublecross.domain.enums.ParticipantType;
+import com.example.doublecross.dto.AiTurnResult;
 import com.example.doublecross.dto.GuessResult;
 import com.example.doublecross.dto.StorySubmitResult;
 import com.example.doublecross.dto.websocket.GameEvent;
 import com.example.doublecross.dto.websocket.GameEventType;
 import com.example.doublecross.dto.websocket.WebSocketMessage;
+import com.example.doublecross.exception.AiTimeoutException;
 import com.example.doublecross.exception.GameException;
+import com.example.doublecross.service.GameEventPublisher;
+import com.example.doublecross.service.GameFinalizationService;
 import com.example.doublecross.service.GameService;
 import com.example.doublecross.service.GuessService;
+import com.example.doublecross.service.SessionCommandExecutor;
 import com.example.doublecross.service.StoryService;
 import com.example.doublecross.service.TimerService;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Controller
@@ -33,7 +38,9 @@ public class GameWebSocketController {
     private final StoryService storyService;
     private final GuessService guessService;
     private final TimerService timerService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final GameFinalizationService gameFinalizationService;
+    private final GameEventPublisher eventPublisher;
+    private final SessionCommandExecutor sessionCommands;
 
     /**
      * 게임 준비 완료
@@ -43,47 +50,54 @@ public class GameWebSocketController {
     public void handleReady(@DestinationVariable String sessionId) {
         log.info("Player ready for game: {}", sessionId);
 
-        try {
-            UUID uuid = UUID.fromString(sessionId);
-            GameSession session = gameService.getSession(uuid);
+        UUID uuid = parseSessionId(sessionId);
+        if (uuid == null) {
+            return;
+        }
 
-            if (session.getStatus() != GameStatus.WAITING) {
-                sendError(sessionId, "INVALID_STATE", "게임을 시작할 수 없는 상태입니다.");
-                return;
-            }
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        sessionCommands.execute(uuid, () -> {
+            try {
+                GameSession session = gameService.getSession(uuid);
 
-            // 게임 시작
-            session = gameService.startGame(uuid);
+                if (session.getStatus() != GameStatus.WAITING) {
+                    sendError(sessionId, "INVALID_STATE", "게임을 시작할 수 없는 상태입니다.");
+                    return;
+                }
 
-            // 타이머 시작
-            timerService.startTurnTimer(uuid, session.getTurnTimeLimit());
-            timerService.updatePlayerConnection(uuid, true);
+                // 게임 시작
+                session = gameService.startGame(uuid);
 
-            // 게임 시작 이벤트 전송
-            GameEvent.TurnInfo firstTurn = GameEvent.TurnInfo.builder()
-                    .turn(1)
-                    .author(gameService.getCurrentTurnAuthor(session))
-                    .timeLimit(session.getTurnTimeLimit())
-                    .startTime(Instant.now().toEpochMilli())
-                    .build();
+                // 타이머 시작
+                timerService.startTurnTimer(uuid, session.getTurnTimeLimit());
+                timerService.updatePlayerConnection(uuid, true);
 
-            GameEvent.GameStartedPayload payload = GameEvent.GameStartedPayload.builder()
-                    .sessionId(sessionId)
-                    .initialSituation(session.getInitialSituation())
-                    .firstTurn(firstTurn)
-                    .build();
+                // 게임 시작 이벤트 전송
+                GameEvent.TurnInfo firstTurn = GameEvent.TurnInfo.builder()
+                        .turn(1)
+                        .author(gameService.getCurrentTurnAuthor(session))
+                        .timeLimit(session.getTurnTimeLimit())
+                        .startTime(Instant.now().toEpochMilli())
+                        .build();
+
+                GameEvent.GameStartedPayload payload = GameEvent.GameStartedPayload.builder()
+                        .sessionId(sessionId)
+                        .initialSituation(session.getInitialSituation())
+                        .firstTurn(firstTurn)
+                        .build();
 
-            sendEvent(sessionId, GameEventType.GAME_STARTED, payload);
+                sendEvent(sessionId, GameEventType.GAME_STARTED, payload);
 
-            // AI 첫 턴이면 AI 스토리 생성
-            if (gameService.getCurrentTurnAuthor(session) == ParticipantType.AI) {
-                executeAiTurn(uuid, sessionId);
-            }
+                // AI 첫 턴이면 AI 스토리 생성 (현재 명령 뒤에 이어서 실행)
+                if (gameService.getCurrentTurnAuthor(session) == ParticipantType.AI) {
+                    sessionCommands.execute(uuid, () -> executeAiTurn(uuid, sessionId));
+                }
 
-        } catch (Exception e) {
-            log.error("Error handling ready for session {}: {}", sessionId, e.getMessage(), e);
-            sendError(sessionId, "ERROR", e.getMessage());
-        }
+            } catch (Exception e) {
+                log.error("Error handling ready for session {}: {}", sessionId, e.getMessage(), e);
+                sendError(sessionId, "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -97,71 +111,78 @@ public class GameWebSocketController {
     ) {
         log.info("Player submitting story for game: {}", sessionId);
 
-        try {
-            UUID uuid = UUID.fromString(sessionId);
-            GameSession session = gameService.getSession(uuid);
+        UUID uuid = parseSessionId(sessionId);
+        if (uuid == null) {
+            return;
+        }
 
-            if (session.getStatus() != GameStatus.IN_PROGRESS) {
-                sendError(sessionId, "INVALID_STATE", "진행 중인 게임이 아닙니다.");
-                return;
-            }
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        sessionCommands.execute(uuid, () -> {
+            try {
+                GameSession session = gameService.getSession(uuid);
 
-            // 플레이어 턴인지 확인
-            if (gameService.getCurrentTurnAuthor(session) != ParticipantType.PLAYER) {
-                sendError(sessionId, "INVALID_TURN", "플레이어 턴이 아닙니다.");
-                return;
-            }
+                if (session.getStatus() != GameStatus.IN_PROGRESS) {
+                    sendError(sessionId, "INVALID_STATE", "진행 중인 게임이 아닙니다.");
+                    return;
+                }
 
-            // 타이머 취소
-            timerService.cancelTurnTimer(uuid);
+                // 플레이어 턴인지 확인
+                if (gameService.getCurrentTurnAuthor(session) != ParticipantType.PLAYER) {
+                    sendError(sessionId, "INVALID_TURN", "플레이어 턴이 아닙니다.");
+                    return;
+                }
 
-            // 스토리 제출
-            StorySubmitResult result = storyService.submitPlayerStory(
-                    session,
-                    message.content(),
-                    message.useKeyword(),
-                    message.timeSpent()
-            );
+                // 타이머 취소
+                timerService.cancelTurnTimer(uuid);
+
+                // 스토리 제출
+                StorySubmitResult result = storyService.submitPlayerStory(
+                        session,
+                        message.content(),
+                        message.useKeyword(),
+                        message.timeSpent()
+                );
+
+                // 턴 진행
+                boolean shouldFinish = gameService.advanceTurn(uuid);
+
+                // 플레이어 턴 완료 이벤트 전송
+                GameEvent.TurnInfo nextTurn = null;
+                if (!shouldFinish) {
+                    session = gameService.getSession(uuid);
+                    nextTurn = GameEvent.TurnInfo.builder()
+                            .turn(session.getCurrentTurn())
+                            .author(gameService.getCurrentTurnAuthor(session))
+                            .timeLimit(session.getTurnTimeLimit())
+                            .startTime(Instant.now().toEpochMilli())
+                            .build();
+                }
 
-            // 턴 진행
-            boolean shouldFinish = gameService.advanceTurn(uuid);
-
-            // 플레이어 턴 완료 이벤트 전송
-            GameEvent.TurnInfo nextTurn = null;
-            if (!shouldFinish) {
-                session = gameService.getSession(uuid);
-                nextTurn = GameEvent.TurnInfo.builder()
-                        .turn(session.getCurrentTurn())
-                        .author(gameService.getCurrentTurnAuthor(session))
-                        .timeLimit(session.getTurnTimeLimit())
-                        .startTime(Instant.now().toEpochMilli())
+                GameEvent.PlayerTurnCompletedPayload payload = GameEvent.PlayerTurnCompletedPayload.builder()
+                        .turn(result.getTurn())
+                        .content(message.content())
+                        .keywordUsed(result.isKeywordUsed())
+                        .nextTurn(nextTurn)
                         .build();
-            }
-
-            GameEvent.PlayerTurnCompletedPayload payload = GameEvent.PlayerTurnCompletedPayload.builder()
-                    .turn(result.getTurn())
-                    .content(message.content())
-                    .keywordUsed(result.isKeywordUsed())
-                    .nextTurn(nextTurn)
-                    .build();
-
-            sendEvent(sessionId, GameEventType.PLAYER_TURN_COMPLETED, payload);
 
-            // 게임이 종료되어야 하면 종료 처리
-            if (shouldFinish) {
-                gameService.finishGame(uuid);
-                sendGameFinished(sessionId, "ALL_TURNS_COMPLETED");
-            } else {
-                // AI 턴이면 AI 스토리 생성
-                if (gameService.getCurrentTurnAuthor(session) == ParticipantType.AI) {
-                    executeAiTurn(uuid, sessionId);
+                sendEvent(sessionId, GameEventType.PLAYER_TURN_COMPLETED, payload);
+
+                // 게임이 종료되어야 하면 종료 처리 (판정은 비동기, 결과는 RESULT_READY로 전달)
+                if (shouldFinish) {
+                    gameFinalizationService.requestFinish(uuid);
+                    sendGameFinished(sessionId, "ALL_TURNS_COMPLETED");
+                } else {
+                    // AI 턴이면 AI 스토리 생성 (현재 명령 뒤에 이어서 실행)
+                    if (gameService.getCurrentTurnAuthor(session) == ParticipantType.AI) {
+                        sessionCommands.execute(uuid, () -> executeAiTurn(uuid, sessionId));
+                    }
                 }
-            }
 
-        } catch (Exception e) {
-            log.error("Error handling story for session {}: {}", sessionId, e.getMessage(), e);
-            sendError(sessionId, "ERROR", e.getMessage());
-        }
+            } catch (Exception e) {
+                log.error("Error handling story for session {}: {}", sessionId, e.getMessage(), e);
+                sendError(sessionId, "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -175,64 +196,78 @@ public class GameWebSocketController {
     ) {
         log.info("Player guessing for game: {}, word: {}", sessionId, message.guessWord());
 
-        try {
-            UUID uuid = UUID.fromString(sessionId);
-            GameSession session = gameService.getSession(uuid);
+        UUID uuid = parseSessionId(sessionId);
+        if (uuid == null) {
+            return;
+        }
 
-            if (session.getStatus() != GameStatus.IN_PROGRESS) {
-                sendError(sessionId, "INVALID_STATE", "진행 중인 게임이 아닙니다.");
-                return;
-            }
+        // 같은 세션의 명령은 세션 실행기에서 순서대로 하나씩 처리
+        sessionCommands.execute(uuid, () -> {
+            try {
+                GameSession session = gameService.getSession(uuid);
 
-            // 추측 처리
-            GuessResult result = guessService.processGuess(session, ParticipantType.PLAYER, message.guessWord());
-
-            // 추측 결과 이벤트 전송
-            GameEvent.GuessResultPayload payload = GameEvent.GuessResultPayload.builder()
-                    .guesser(ParticipantType.PLAYER)
-                    .guessWord(message.guessWord())
-                    .correct(result.isCorrect())
-                    .points(result.getPoints())
-                    .guessesRemaining(result.getGuessesRemaining())
-                    .totalScore(result.getTotalScore())
-                    .build();
+                if (session.getStatus() != GameStatus.IN_PROGRESS) {
+                    sendError(sessionId, "INVALID_STATE", "진행 중인 게임이 아닙니다.");
+                    return;
+                }
 
-            sendEvent(sessionId, GameEventType.GUESS_RESULT, payload);
+                // 추측 처리
+                GuessResult result = guessService.processGuess(session, ParticipantType.PLAYER, message.guessWord());
 
-        } catch (Exception e) {
-            log.error("Error handling guess for session {}: {}", sessionId, e.getMessage(), e);
-            sendError(sessionId, "ERROR", e.getMessage());
-        }
+                // 추측 결과 이벤트 전송
+                sendGuessResult(sessionId, ParticipantType.PLAYER, message.guessWord(), result);
+
+            } catch (Exception e) {
+                log.error("Error handling guess for session {}: {}", sessionId, e.getMessage(), e);
+                sendError(sessionId, "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
      * AI 턴 실행
+     * AI도 턴 제한 시간 안에 작성해야 하며, 시간이 지나면 턴을 건너뜀
      */
     private void executeAiTurn(UUID sessionId, String sessionIdStr) {
         try {
             GameSession session = gameService.getSession(sessionId);
 
-            // AI 스토리 생성
+            // AI 턴 타이머 시작 (LLM 호출 데드라인 기준)
+            int turn = session.getCurrentTurn();
+            timerService.startTurnTimer(sessionId, session.getTurnTimeLimit());
+
+            // AI 스토리 생성 + 제시어 추측 (작성되는 문장을 AI_TURN_DELTA로 실시간 전송)
+            AtomicInteger sequence = new AtomicInteger();
+            AiTurnResult turnResult;
+
             timerService.updateAiThinking(sessionId, true);
-            StorySubmitResult result = storyService.generateAiStory(session, true);
-            timerService.updateAiThinking(sessionId, false);
+            try {
+                turnResult = storyService.generateAiTurn(session, true, delta ->
+                        sendEvent(sessionIdStr, GameEventType.AI_TURN_DELTA,
+                                GameEvent.AiTurnDeltaPayload.builder()
+                                        .turn(turn)
+                                        .sequence(sequence.getAndIncrement())
+                                        .delta(delta)
+                                        .build()));
+            } catch (AiTimeoutException e) {
+                log.warn("AI turn {} timed out for session {}", turn, sessionId);
+                skipAiTurn(sessionId, sessionIdStr, turn);
+                return;
+            } finally {
+                timerService.updateAiThinking(sessionId, false);
+            }
+            StorySubmitResult result = turnResult.story();
+
+            // AI가 이번 턴에 추측했으면 추측 결과 이벤트 전송
+            if (turnResult.guess() != null) {
+                sendGuessResult(sessionIdStr, ParticipantType.AI, turnResult.guess().getGuessWord(), turnResult.guess());
+            }
 
             // 턴 진행
             boolean shouldFinish = gameService.advanceTurn(sessionId);
 
             // AI 턴 완료 이벤트 전송
-            GameEvent.TurnInfo nextTurn = null;
-            if (!shouldFinish) {
-                session = gameService.getSession(sessionId);
-                timerService.startTurnTimer(sessionId, session.getTurnTimeLimit());
-
-                nextTurn = GameEvent.TurnInfo.builder()
-                        .turn(session.getCurrentTurn())
-                        .author(gameService.getCurrentTurnAuthor(session))
-                        .timeLimit(session.getTurnTimeLimit())
-                        .startTime(Instant.now().toEpochMilli())
-                        .build();
-            }
+            GameEvent.TurnInfo nextTurn = startNextTurn(sessionId, shouldFinish);
 
             GameEvent.AiTurnCompletedPayload payload = GameEvent.AiTurnCompletedPayload.builder()
                     .turn(result.getTurn())
@@ -242,9 +277,9 @@ public class GameWebSocketController {
 
             sendEvent(sessionIdStr, GameEventType.AI_TURN_COMPLETED, payload);
 
-            // 게임이 종료되어야 하면 종료 처리
+            // 게임이 종료되어야 하면 종료 처리 (판정은 비동기, 결과는 RESULT_READY로 전달)
             if (shouldFinish) {
-                gameService.finishGame(sessionId);
+                gameFinalizationService.requestFinish(sessionId);
                 sendGameFinished(sessionIdStr, "ALL_TURNS_COMPLETED");
             }
 
@@ -254,13 +289,83 @@ public class GameWebSocketController {
         }
     }
 
+    /**
+     * 추측 결과 이벤트 전송
+     */
+    private void sendGuessResult(String sessionId, ParticipantType guesser, String guessWord, GuessResult result) {
+        GameEvent.GuessResultPayload payload = GameEvent.GuessResultPayload.builder()
+                .guesser(guesser)
+                .guessWord(guessWord)
+                .correct(result.isCorrect())
+                .points(result.getPoints())
+                .guessesRemaining(result.getGuessesRemaining())
+                .totalScore(result.getTotalScore())
+                .build();
+
+        sendEvent(sessionId, GameEventType.GUESS_RESULT, payload);
+    }
+
+    /**
+     * 시간 초과된 AI 턴 건너뛰기
+     */
+    private void skipAiTurn(UUID sessionId, String sessionIdStr, int turn) {
+        boolean shouldFinish = gameService.advanceTurn(sessionId);
+        GameEvent.TurnInfo nextTurn = startNextTurn(sessionId, shouldFinish);
+
+        GameEvent.TurnSkippedPayload payload = GameEvent.TurnSkippedPayload.builder()
+                .turn(turn)
+                .author(ParticipantType.AI)
+                .reason("AI_TIMEOUT")
+                .nextTurn(nextTurn)
+                .build();
+
+        sendEvent(sessionIdStr, GameEventType.TURN_SKIPPED, payload);
+
+        if (shouldFinish) {
+            gameFinalizationService.requestFinish(sessionId);
+            sendGameFinished(sessionIdStr, "ALL_TURNS_COMPLETED");
+        }
+    }
+
+    /**
+     * 다음 턴 타이머 시작 후 턴 정보 반환 (게임이 끝나면 null)
+     */
+    private GameEvent.TurnInfo startNextTurn(UUID sessionId, boolean shouldFinish) {
+        if (shouldFinish) {
+            return null;
+        }
+
+        GameSession session = gameService.getSession(sessionId);
+        timerService.startTurnTimer(sessionId, session.getTurnTimeLimit());
+
+        return GameEvent.TurnInfo.builder()
+                .turn(session.getCurrentTurn())
+                .author(gameService.getCurrentTurnAuthor(session))
+                .timeLimit(session.getTurnTimeLimit())
+                .startTime(Instant.now().toEpochMilli())
+                .build();
+    }
+
+    /**
+     * 세션 ID 파싱 (형식이 잘못되면 에러 전송 후 null)
+     */
+    private UUID parseSessionId(String sessionId) {
+        try {
+            return UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            sendError(sessionId, "ERROR", "잘못된 세션 ID입니다.");
+            return null;
+        }
+    }
+
     /**
      * 게임 종료 이벤트 전송
+     * 장르 판정이 끝나기 전이므로 결과는 아직 조회할 수 없음
      */
     private void sendGameFinished(String sessionId, String reason) {
         GameEvent.GameFinishedPayload payload = GameEvent.GameFinishedPayload.builder()
                 .reason(reason)
-                .resultAvailable(true)
+                .resultAvailable(false)
                 .build();
 
         sendEvent(sessionId, GameEventType.GAME_FINISHED, payload);
@@ -270,21 +375,13 @@ public class GameWebSocketController {
      * 이벤트 전송
      */
     private void sendEvent(String sessionId, GameEventType type, Object payload) {
-        GameEvent event = GameEvent.of(type, payload);
-        String destination = "/topic/game/" + sessionId;
-        messagingTemplate.convertAndSend(destination, event);
-        log.debug("Sent event {} to {}", type, destination);
+        eventPublisher.send(sessionId, type, payload);
     }
 
     /**
      * 에러 전송
      */
     private void sendError(String sessionId, String code, String message) {
-        GameEvent.ErrorPayload payload = GameEvent.ErrorPayload.builder()
-                .code(code)
-                .message(message)
-                .build();
-
-        sendEvent(sessionId, GameEventType.ERROR, payload);
+        eventPublisher.sendError(sessionId, code, message);
     }
 }
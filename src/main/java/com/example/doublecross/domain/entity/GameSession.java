@@ -14,7 +14,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "game_session", indexes = {
     @Index(name = "idx_game_session_status", columnList = "status"),
-    @Index(name = "idx_game_session_created_at", columnList = "created_at")
+    @Index(name = "idx_game_session_created_at", columnList = "created_at"),
+    @Index(name = "idx_game_session_finished_at", columnList = "finished_at")
 })
 @Getter
 @Setter
@@ -9,7 +9,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "guess_attempt", indexes = {
-    @Index(name = "idx_guess_attempt_participant", columnList = "participant_id")
+    @Index(name = "idx_guess_attempt_participant", columnList = "participant_id"),
+    @Index(name = "idx_guess_attempt_created_at", columnList = "created_at")
 })
 @Getter
 @Setter
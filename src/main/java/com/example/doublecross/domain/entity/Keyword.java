@@ -4,13 +4,16 @@ import com.example.doublecross.domain.enums.Difficulty;
 import com.example.doublecross.domain.enums.Genre;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "keyword", indexes = {
     @Index(name = "idx_keyword_genre", columnList = "target_genre"),
-    @Index(name = "idx_keyword_difficulty", columnList = "difficulty")
+    @Index(name = "idx_keyword_difficulty", columnList = "difficulty"),
+    @Index(name = "idx_keyword_updated_at", columnList = "updated_at")
 })
 @Getter
 @Setter
@@ -35,4 +38,9 @@ public class Keyword {
     @Column(name = "difficulty", nullable = false, length = 10)
     @Builder.Default
     private Difficulty difficulty = Difficulty.NORMAL;
+
+    // 카탈로그 버전 확인용 (네이티브 쿼리로 쓸 때도 now()로 갱신)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
 }
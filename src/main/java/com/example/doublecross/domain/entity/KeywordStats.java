@@ -0,0 +1,40 @@
+package com.example.doublecross.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 제시어별 누적 통계 (KeywordStatsService가 새 기록만 더해 갱신)
+ */
+@Entity
+@Table(name = "keyword_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeywordStats {
+
+    @Id
+    @Column(name = "keyword_id")
+    private UUID keywordId;
+
+    // 배정 횟수 (들킨 제시어 + 게임 종료 시점의 제시어)
+    @Column(name = "assigned", nullable = false)
+    private long assigned;
+
+    @Column(name = "used", nullable = false)
+    private long used;
+
+    @Column(name = "caught", nullable = false)
+    private long caught;
+
+    @Column(name = "digested", nullable = false)
+    private long digested;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.example.doublecross.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 제시어 통계 집계 위치 (이 시각까지의 기록은 keyword_stats에 반영됨)
+ */
+@Entity
+@Table(name = "keyword_stats_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeywordStatsWatermark {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "aggregated_to", nullable = false)
+    private OffsetDateTime aggregatedTo;
+}
@@ -11,7 +11,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "story_entry", indexes = {
     @Index(name = "idx_story_entry_session", columnList = "session_id"),
-    @Index(name = "idx_story_entry_session_turn", columnList = "session_id, turn")
+    @Index(name = "idx_story_entry_session_turn", columnList = "session_id, turn"),
+    @Index(name = "idx_story_entry_created_at", columnList = "created_at")
 })
 @Getter
 @Setter
@@ -3,6 +3,7 @@ package com.example.doublecross.domain.enums;
 public enum GameStatus {
     WAITING,
     IN_PROGRESS,
+    JUDGING,
     FINISHED,
     CANCELLED
 }
@@ -0,0 +1,8 @@
+package com.example.doublecross.domain.enums;
+
+public enum JudgingStage {
+    QUEUED,     // 판정 대기 중
+    ANALYZING,  // AI 장르 판정 중
+    DONE,       // 결과 저장 완료
+    FAILED      // 판정 실패 (결과 조회 시 재시도)
+}
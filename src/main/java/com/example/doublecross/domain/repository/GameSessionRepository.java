@@ -2,7 +2,9 @@ package com.example.doublecross.domain.repository;
 
 import com.example.doublecross.domain.entity.GameSession;
 import com.example.doublecross.domain.enums.GameStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,6 +29,13 @@ public interface GameSessionRepository extends JpaRepository<GameSession, UUID>
     @Query("SELECT gs FROM GameSession gs LEFT JOIN FETCH gs.participants WHERE gs.sessionId = :sessionId")
     Optional<GameSession> findByIdWithParticipants(@Param("sessionId") UUID sessionId);
 
+    /**
+     * 세션 행 잠금 조회 (결과 저장처럼 한 번만 수행되어야 하는 쓰기용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT gs FROM GameSession gs WHERE gs.sessionId = :sessionId")
+    Optional<GameSession> findByIdForUpdate(@Param("sessionId") UUID sessionId);
+
     @Query("SELECT gs FROM GameSession gs LEFT JOIN FETCH gs.storyEntries WHERE gs.sessionId = :sessionId")
     Optional<GameSession> findByIdWithStoryEntries(@Param("sessionId") UUID sessionId);
 
@@ -16,6 +16,11 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
 
     List<Keyword> findByTargetGenre(Genre targetGenre);
 
+    /**
+     * 전체 제시어 (카탈로그 스냅샷용, 다시 읽어도 같은 순서)
+     */
+    List<Keyword> findAllByOrderByKeywordId();
+
     List<Keyword> findByDifficulty(Difficulty difficulty);
 
     List<Keyword> findByTargetGenreAndDifficulty(Genre targetGenre, Difficulty difficulty);
@@ -32,6 +37,14 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
     @Query(value = "SELECT * FROM keyword WHERE target_genre = :genre AND difficulty = :difficulty ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
     Keyword findOneRandomByGenreAndDifficulty(@Param("genre") String genre, @Param("difficulty") String difficulty);
 
+    /**
+     * 제시어 테이블 버전 (행 수 + 마지막 수정 시각, 카탈로그 갱신 확인용)
+     * updated_at을 갱신하지 않는 직접 수정은 관리자 API로 다시 읽어야 함
+     */
+    @Query(value = "SELECT COUNT(*) || ':' || COALESCE(EXTRACT(EPOCH FROM MAX(updated_at))::text, '0') "
+            + "FROM keyword", nativeQuery = true)
+    String findCatalogVersion();
+
     boolean existsByWord(String word);
 
     List<Keyword> findByWordContaining(String word);
@@ -0,0 +1,11 @@
+package com.example.doublecross.domain.repository;
+
+import com.example.doublecross.domain.entity.KeywordStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface KeywordStatsRepository extends JpaRepository<KeywordStats, UUID> {
+}
@@ -1,7 +1,10 @@
 package com.example.doublecross.domain.repository;
 
 import com.example.doublecross.domain.entity.StoryEntry;
+import com.example.doublecross.domain.enums.GameStatus;
+import com.example.doublecross.domain.enums.Genre;
 import com.example.doublecross.domain.enums.ParticipantType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,4 +43,18 @@ public interface StoryEntryRepository extends JpaRepository<StoryEntry, UUID> {
 
     @Query("SELECT COALESCE(MAX(se.turn), 0) FROM StoryEntry se WHERE se.session.sessionId = :sessionId")
     Integer findMaxTurnBySessionId(@Param("sessionId") UUID sessionId);
+
+    /**
+     * 작성자 장르별 문장 (종료된 게임, 최근 작성 순)
+     */
+    @Query("SELECT p.secretGenre AS genre, se.content AS content FROM StoryEntry se, Participant p " +
+            "WHERE p.session = se.session AND p.type = se.author AND se.session.status = :status " +
+            "ORDER BY se.createdAt DESC")
+    List<GenreContent> findRecentContentsWithAuthorGenre(@Param("status") GameStatus status, Pageable pageable);
+
+    interface GenreContent {
+        Genre getGenre();
+
+        String getContent();
+    }
 }
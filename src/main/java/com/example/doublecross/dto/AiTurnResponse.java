@@ -0,0 +1,39 @@
+package com.example.doublecross.dto;
+
+import java.util.List;
+
+/**
+ * AI 턴 응답 DTO (스토리 작성 + 제시어 추측을 한 번의 호출로 받음)
+ *
+ * @param content 작성된 스토리 내용 (1-3문장)
+ * @param keywordUsed 제시어 사용 여부
+ * @param bluffWord 블러핑 단어 (있으면)
+ * @param reasoning AI의 전략적 판단 근거
+ * @param decision 추측 결정 ("GUESS" 또는 "PASS")
+ * @param guessWord 추측한 단어 (PASS면 null)
+ * @param confidence 추측 확신도 (0-100)
+ */
+public record AiTurnResponse(
+        String content,
+        boolean keywordUsed,
+        String bluffWord,
+        String reasoning,
+        String decision,
+        String guessWord,
+        int confidence
+) {
+
+    /**
+     * 스토리 부분
+     */
+    public StoryWriteResponse story() {
+        return new StoryWriteResponse(content, keywordUsed, bluffWord, reasoning);
+    }
+
+    /**
+     * 추측 부분
+     */
+    public KeywordGuessResponse guess() {
+        return new KeywordGuessResponse(decision != null ? decision : "PASS", guessWord, confidence, List.of(), reasoning);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.doublecross.dto;
+
+/**
+ * AI 턴 처리 결과
+ *
+ * @param story 저장된 스토리
+ * @param guess 추측 결과 (추측하지 않았으면 null)
+ */
+public record AiTurnResult(
+        StorySubmitResult story,
+        GuessResult guess
+) {}
@@ -12,6 +12,8 @@ import java.util.List;
  * @param currentTurn 현재 턴
  * @param maxTurns 최대 턴
  * @param fullStory 지금까지의 전체 스토리
+ * @param renderedStory 미리 렌더링된 전체 스토리 (있으면 fullStory 대신 사용)
+ * @param renderedOpponentStory 미리 렌더링된 상대 문장 (있으면 fullStory 대신 사용)
  */
 public record KeywordGuessRequest(
         String opponentGenreGuess,
@@ -19,9 +21,16 @@ public record KeywordGuessRequest(
         int guessesRemaining,
         int currentTurn,
         int maxTurns,
-        List<StoryEntry> fullStory
+        List<StoryEntry> fullStory,
+        String renderedStory,
+        String renderedOpponentStory
 ) {
 
+    public KeywordGuessRequest(String opponentGenreGuess, String myGenre, int guessesRemaining,
+                               int currentTurn, int maxTurns, List<StoryEntry> fullStory) {
+        this(opponentGenreGuess, myGenre, guessesRemaining, currentTurn, maxTurns, fullStory, null, null);
+    }
+
     /**
      * 스토리 항목
      */
@@ -35,6 +44,9 @@ public record KeywordGuessRequest(
      * 전체 스토리를 문자열로 변환
      */
     public String getStoryAsString() {
+        if (renderedStory != null) {
+            return renderedStory;
+        }
         if (fullStory == null || fullStory.isEmpty()) {
             return "(아직 스토리 없음)";
         }
@@ -51,6 +63,9 @@ public record KeywordGuessRequest(
      * 상대(PLAYER)의 문장만 추출
      */
     public String getOpponentStoryOnly() {
+        if (renderedOpponentStory != null) {
+            return renderedOpponentStory;
+        }
         if (fullStory == null || fullStory.isEmpty()) {
             return "(상대 스토리 없음)";
         }
@@ -13,6 +13,7 @@ import java.util.List;
  * @param maxTurns 최대 턴
  * @param storySoFar 지금까지의 스토리
  * @param shouldUseKeyword 이번 턴에 제시어를 사용해야 하는지 (테스트용)
+ * @param renderedStory 미리 렌더링된 스토리 (있으면 storySoFar 대신 사용)
  */
 public record StoryWriteRequest(
         String aiGenre,
@@ -21,9 +22,15 @@ public record StoryWriteRequest(
         int currentTurn,
         int maxTurns,
         List<StoryEntry> storySoFar,
-        boolean shouldUseKeyword
+        boolean shouldUseKeyword,
+        String renderedStory
 ) {
 
+    public StoryWriteRequest(String aiGenre, String aiKeyword, String keywordStatus, int currentTurn,
+                             int maxTurns, List<StoryEntry> storySoFar, boolean shouldUseKeyword) {
+        this(aiGenre, aiKeyword, keywordStatus, currentTurn, maxTurns, storySoFar, shouldUseKeyword, null);
+    }
+
     /**
      * 스토리 항목
      */
@@ -37,6 +44,9 @@ public record StoryWriteRequest(
      * 지금까지 스토리를 문자열로 변환
      */
     public String getStoryAsString() {
+        if (renderedStory != null) {
+            return renderedStory;
+        }
         if (storySoFar == null || storySoFar.isEmpty()) {
             return "(아직 스토리 없음)";
         }
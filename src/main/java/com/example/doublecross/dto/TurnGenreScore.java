@@ -0,0 +1,15 @@
+package com.example.doublecross.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 턴별 장르 판정 결과 (새 문장 하나 기준)
+ *
+ * @param genreAnalysis 장르별 비율 (0-100)
+ * @param unnaturalElements 새 문장의 뜬금없는 요소들
+ */
+public record TurnGenreScore(
+    Map<String, Integer> genreAnalysis,
+    List<UnnaturalElement> unnaturalElements
+) {}
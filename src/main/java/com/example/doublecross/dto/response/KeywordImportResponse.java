@@ -0,0 +1,23 @@
+package com.example.doublecross.dto.response;
+
+import lombok.Builder;
+
+/**
+ * 제시어 일괄 등록 결과
+ *
+ * @param received 업로드된 행 수
+ * @param inserted 새로 추가된 제시어 수
+ * @param duplicates 이미 있는 단어이거나 파일 안에서 중복된 행 수
+ * @param invalid 단어가 비었거나 장르/난이도 값이 잘못된 행 수
+ * @param elapsedMillis 소요 시간
+ * @param rowsPerSecond 초당 처리 행 수
+ */
+@Builder
+public record KeywordImportResponse(
+        long received,
+        long inserted,
+        long duplicates,
+        long invalid,
+        long elapsedMillis,
+        double rowsPerSecond
+) {}
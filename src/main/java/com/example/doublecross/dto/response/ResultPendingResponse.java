@@ -0,0 +1,15 @@
+package com.example.doublecross.dto.response;
+
+import com.example.doublecross.domain.enums.GameStatus;
+import com.example.doublecross.domain.enums.JudgingStage;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record ResultPendingResponse(
+        UUID sessionId,
+        GameStatus status,
+        JudgingStage stage,
+        long elapsedMillis
+) {}
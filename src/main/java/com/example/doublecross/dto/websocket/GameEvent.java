@@ -1,6 +1,7 @@
 package com.example.doublecross.dto.websocket;
 
 import com.example.doublecross.domain.enums.ParticipantType;
+import com.example.doublecross.domain.enums.Winner;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -29,6 +30,13 @@ public class GameEvent {
             TurnInfo firstTurn
     ) {}
 
+    @Builder
+    public record AiTurnDeltaPayload(
+            int turn,
+            int sequence,
+            String delta
+    ) {}
+
     @Builder
     public record AiTurnCompletedPayload(
             int turn,
@@ -44,6 +52,14 @@ public class GameEvent {
             TurnInfo nextTurn
     ) {}
 
+    @Builder
+    public record TurnSkippedPayload(
+            int turn,
+            ParticipantType author,
+            String reason,
+            TurnInfo nextTurn
+    ) {}
+
     @Builder
     public record GuessResultPayload(
             ParticipantType guesser,
@@ -73,6 +89,14 @@ public class GameEvent {
             boolean resultAvailable
     ) {}
 
+    @Builder
+    public record ResultReadyPayload(
+            String sessionId,
+            Winner winner,
+            int playerScore,
+            int aiScore
+    ) {}
+
     @Builder
     public record TurnInfo(
             int turn,
@@ -4,8 +4,10 @@ public enum GameEventType {
     // 게임 상태
     GAME_STARTED,
     GAME_FINISHED,
+    RESULT_READY,
 
     // 턴 관련
+    AI_TURN_DELTA,
     AI_TURN_COMPLETED,
     PLAYER_TURN_COMPLETED,
     TURN_SKIPPED,
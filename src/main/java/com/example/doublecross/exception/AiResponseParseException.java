@@ -0,0 +1,8 @@
+package com.example.doublecross.exception;
+
+public class AiResponseParseException extends AiUnavailableException {
+
+    public AiResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
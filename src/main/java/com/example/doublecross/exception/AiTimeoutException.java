@@ -0,0 +1,8 @@
+package com.example.doublecross.exception;
+
+public class AiTimeoutException extends AiUnavailableException {
+
+    public AiTimeoutException(String message) {
+        super(message);
+    }
+}
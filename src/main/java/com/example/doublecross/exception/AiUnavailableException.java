@@ -0,0 +1,12 @@
+package com.example.doublecross.exception;
+
+public class AiUnavailableException extends GameException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -31,6 +31,14 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse("INVALID_TURN", ex.getMessage()));
     }
 
+    @ExceptionHandler(AiUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleAiUnavailable(AiUnavailableException ex) {
+        log.warn("AI unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(createErrorResponse("AI_UNAVAILABLE", ex.getMessage()));
+    }
+
     @ExceptionHandler(GameException.class)
     public ResponseEntity<Map<String, Object>> handleGameException(GameException ex) {
         log.warn("Game error: {}", ex.getMessage());
@@ -0,0 +1,129 @@
+package com.example.doublecross.prompt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 시작 시 PromptTemplates를 파싱해 두는 프롬프트 모음
+ * 템플릿의 슬롯이 선언한 슬롯과 다르면(오타, 누락) 애플리케이션이 시작되지 않음
+ */
+@Slf4j
+@Component
+public class PromptCatalog {
+
+    private final PromptTemplate genreJudgeUser;
+    private final PromptTemplate genreTurnJudgeUser;
+    private final PromptTemplate storyWriterSession;
+    private final PromptTemplate storyWriterUser;
+    private final PromptTemplate storyWriterContinue;
+    private final PromptTemplate instructionUseKeyword;
+    private final PromptTemplate instructionNoKeyword;
+    private final PromptTemplate keywordGuesserSession;
+    private final PromptTemplate keywordGuesserUser;
+    private final PromptTemplate storySummarizerUser;
+    private final PromptTemplate aiTurnGuess;
+
+    public PromptCatalog() {
+        this.genreJudgeUser = compile("GENRE_JUDGE_USER_PROMPT",
+                PromptTemplates.GENRE_JUDGE_USER_PROMPT,
+                Set.of("story"));
+        this.genreTurnJudgeUser = compile("GENRE_TURN_JUDGE_USER_PROMPT",
+                PromptTemplates.GENRE_TURN_JUDGE_USER_PROMPT,
+                Set.of("previousStory", "turn", "sentence"));
+        this.storyWriterSession = compile("STORY_WRITER_SESSION_PROMPT",
+                PromptTemplates.STORY_WRITER_SESSION_PROMPT,
+                Set.of("aiGenre", "aiKeyword"));
+        this.storyWriterUser = compile("STORY_WRITER_USER_PROMPT",
+                PromptTemplates.STORY_WRITER_USER_PROMPT,
+                Set.of("keywordStatus", "currentTurn", "maxTurns", "shouldUseKeyword", "storySoFar", "instruction"));
+        this.storyWriterContinue = compile("STORY_WRITER_CONTINUE_PROMPT",
+                PromptTemplates.STORY_WRITER_CONTINUE_PROMPT,
+                Set.of("newTurns", "keywordStatus", "currentTurn", "maxTurns", "shouldUseKeyword", "instruction"));
+        this.instructionUseKeyword = compile("INSTRUCTION_USE_KEYWORD",
+                PromptTemplates.INSTRUCTION_USE_KEYWORD,
+                Set.of("keyword"));
+        this.instructionNoKeyword = compile("INSTRUCTION_NO_KEYWORD",
+                PromptTemplates.INSTRUCTION_NO_KEYWORD,
+                Set.of("genre"));
+        this.keywordGuesserSession = compile("KEYWORD_GUESSER_SESSION_PROMPT",
+                PromptTemplates.KEYWORD_GUESSER_SESSION_PROMPT,
+                Set.of("myGenre"));
+        this.keywordGuesserUser = compile("KEYWORD_GUESSER_USER_PROMPT",
+                PromptTemplates.KEYWORD_GUESSER_USER_PROMPT,
+                Set.of("opponentGenreGuess", "guessesRemaining", "currentTurn", "maxTurns",
+                        "fullStory", "opponentStory"));
+        this.storySummarizerUser = compile("STORY_SUMMARIZER_USER_PROMPT",
+                PromptTemplates.STORY_SUMMARIZER_USER_PROMPT,
+                Set.of("previousSummary", "newTurns"));
+        this.aiTurnGuess = compile("AI_TURN_GUESS_PROMPT",
+                PromptTemplates.AI_TURN_GUESS_PROMPT,
+                Set.of("guessesRemaining"));
+
+        // 고정 프롬프트에 슬롯이 생기면 치환되지 않은 채 전송되고 프롬프트 캐시도 깨지므로 함께 검사
+        compile("STORY_WRITER_SYSTEM_PROMPT", PromptTemplates.STORY_WRITER_SYSTEM_PROMPT, Set.of());
+        compile("GENRE_JUDGE_SYSTEM_PROMPT", PromptTemplates.GENRE_JUDGE_SYSTEM_PROMPT, Set.of());
+        compile("GENRE_TURN_JUDGE_SYSTEM_PROMPT", PromptTemplates.GENRE_TURN_JUDGE_SYSTEM_PROMPT, Set.of());
+        compile("KEYWORD_GUESSER_SYSTEM_PROMPT", PromptTemplates.KEYWORD_GUESSER_SYSTEM_PROMPT, Set.of());
+        compile("STORY_SUMMARIZER_SYSTEM_PROMPT", PromptTemplates.STORY_SUMMARIZER_SYSTEM_PROMPT, Set.of());
+        compile("AI_TURN_SYSTEM_PROMPT", PromptTemplates.AI_TURN_SYSTEM_PROMPT, Set.of());
+    }
+
+    public PromptTemplate genreJudgeUser() {
+        return genreJudgeUser;
+    }
+
+    public PromptTemplate genreTurnJudgeUser() {
+        return genreTurnJudgeUser;
+    }
+
+    public PromptTemplate storyWriterSession() {
+        return storyWriterSession;
+    }
+
+    public PromptTemplate storyWriterUser() {
+        return storyWriterUser;
+    }
+
+    public PromptTemplate storyWriterContinue() {
+        return storyWriterContinue;
+    }
+
+    public PromptTemplate instructionUseKeyword() {
+        return instructionUseKeyword;
+    }
+
+    public PromptTemplate instructionNoKeyword() {
+        return instructionNoKeyword;
+    }
+
+    public PromptTemplate keywordGuesserSession() {
+        return keywordGuesserSession;
+    }
+
+    public PromptTemplate keywordGuesserUser() {
+        return keywordGuesserUser;
+    }
+
+    public PromptTemplate storySummarizerUser() {
+        return storySummarizerUser;
+    }
+
+    public PromptTemplate aiTurnGuess() {
+        return aiTurnGuess;
+    }
+
+    /**
+     * 템플릿 파싱 후 슬롯 검증
+     */
+    private static PromptTemplate compile(String name, String text, Set<String> expectedSlots) {
+        PromptTemplate template = PromptTemplate.compile(name, text);
+        if (!template.slotNames().equals(expectedSlots)) {
+            throw new IllegalStateException("Prompt " + name + " has slots " + template.slotNames()
+                    + " but " + expectedSlots + " were declared");
+        }
+        log.debug("Prompt {} compiled with slots {}", name, template.slotNames());
+        return template;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.doublecross.prompt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 파싱된 프롬프트 템플릿
+ * 템플릿을 한 번만 {placeholder} 기준으로 고정 문자열 조각과 슬롯으로 나누고,
+ * 렌더링은 미리 크기를 잡은 StringBuilder에 한 번에 이어 붙임
+ *
+ * String.replace 연쇄와 달리 치환된 값 안의 {placeholder}는 다시 치환되지 않음
+ */
+public final class PromptTemplate {
+
+    /** JSON 예시의 중괄호와 구분되도록 식별자 형태만 슬롯으로 인식 */
+    private static final Pattern SLOT = Pattern.compile("\\{([a-zA-Z][a-zA-Z0-9]*)}");
+
+    private final String name;
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+    private final Set<String> slotNames;
+
+    private PromptTemplate(String name, String[] literals, String[] slots) {
+        this.name = name;
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, slots);
+        this.slotNames = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * 템플릿 파싱
+     * literals는 항상 slots보다 하나 많음 (literal, slot, literal, ..., literal)
+     */
+    public static PromptTemplate compile(String name, String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        Matcher matcher = SLOT.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(position, matcher.start()));
+            slots.add(matcher.group(1));
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+
+        return new PromptTemplate(name, literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 템플릿에 포함된 슬롯 이름 (등장 순서)
+     */
+    public Set<String> slotNames() {
+        return slotNames;
+    }
+
+    /**
+     * 렌더링
+     *
+     * @param values 슬롯 이름별 값 (모든 슬롯에 값이 있어야 함)
+     * @throws IllegalArgumentException 값이 없는 슬롯이 있는 경우
+     */
+    public String render(Map<String, String> values) {
+        int length = literalLength;
+        for (String slot : slots) {
+            String value = values.get(slot);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for {" + slot + "} in prompt " + name);
+            }
+            length += value.length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]).append(values.get(slots[i]));
+        }
+        builder.append(literals[slots.length]);
+        return builder.toString();
+    }
+}
@@ -107,6 +107,68 @@ public final class PromptTemplates {
         JSON 형식으로 응답해주세요.
         """;
 
+    /**
+     * Genre Judge 턴별 판정 시스템 프롬프트 (매 턴 새 문장만 판정, 게임 종료 시 집계)
+     */
+    public static final String GENRE_TURN_JUDGE_SYSTEM_PROMPT = """
+        # AI Genre Turn Judge System Prompt
+        
+        진행 중인 스토리에 새로 추가된 문장 하나의 장르와 자연스러움을 판정합니다.
+        이전 스토리는 맥락 확인용이며, 판정 대상은 새 문장뿐입니다.
+        
+        ## 판정 항목
+        
+        ### 1. 장르 비율
+        새 문장이 각 장르를 얼마나 드러내는지 판정합니다. (0-100, 합계가 100일 필요 없음)
+        - ROMANCE: 사랑, 감정, 관계 중심
+        - THRILLER: 긴장감, 위협, 서스펜스
+        - COMEDY: 유머, 코믹한 상황
+        - SF: 과학기술, 미래, 우주
+        - FANTASY: 마법, 판타지 세계
+        - MYSTERY: 수수께끼, 추리, 비밀
+        
+        ### 2. 뜬금없는 요소
+        이전 스토리 맥락 없이 갑자기 등장한 단어/소재만 고릅니다.
+        - 맥락을 만들어 자연스럽게 녹인 단어는 뜬금없음 아님
+        - 명백히 어색한 요소만 포함하고, 없으면 빈 배열
+        
+        ## 응답 형식
+        반드시 아래 JSON 형식으로만 응답하세요. 다른 텍스트 없이 JSON만 출력하세요.
+        
+        ```json
+        {
+          "genreAnalysis": {
+            "ROMANCE": 0-100,
+            "THRILLER": 0-100,
+            "COMEDY": 0-100,
+            "SF": 0-100,
+            "FANTASY": 0-100,
+            "MYSTERY": 0-100
+          },
+          "unnaturalElements": [
+            {
+              "turn": 1,
+              "element": "단어",
+              "reason": "이유"
+            }
+          ]
+        }
+        ```
+        """;
+
+    /**
+     * Genre Judge 턴별 판정 사용자 프롬프트 템플릿
+     */
+    public static final String GENRE_TURN_JUDGE_USER_PROMPT = """
+        [이전 스토리]
+        {previousStory}
+        
+        [새 문장 (Turn {turn})]
+        {sentence}
+        
+        새 문장을 JSON 형식으로 판정해주세요.
+        """;
+
 
     /**
      * Story Writer AI 시스템 프롬프트
@@ -117,20 +179,17 @@ public final class PromptTemplates {
         당신은 소설 공동 창작 게임의 AI 플레이어입니다.
         플레이어와 번갈아가며 소설을 씁니다.
         
-        ## 당신의 비밀 정보
-        - 당신의 장르: {aiGenre}
-        - 당신의 제시어: "{aiKeyword}"
-        - 제시어 상태: {keywordStatus}
+        당신의 장르와 제시어는 이어지는 "비밀 정보"에, 이번 턴 상황은 사용자 메시지에 주어집니다.
         
         ## 당신의 목표
-        1. 스토리를 {aiGenre} 장르로 자연스럽게 유도하세요
-        2. 제시어 "{aiKeyword}"를 자연스럽게 녹이세요 (사용 지시가 있을 때)
+        1. 스토리를 당신의 장르로 자연스럽게 유도하세요
+        2. 당신의 제시어를 자연스럽게 녹이세요 (사용 지시가 있을 때)
         3. 상대가 제시어를 쉽게 맞추지 못하도록 자연스러운 맥락을 만드세요
         
         ## 제시어 사용 규칙 (매우 중요!)
-        - 제시어 "{aiKeyword}"가 문장에 포함되어야 인정됩니다
-        - 조사 결합 허용: "{aiKeyword}가", "{aiKeyword}를" 등 OK
-        - 합성어 허용: "{aiKeyword}처럼", "{aiKeyword}영화" 등 OK
+        - 제시어가 문장에 그대로 포함되어야 인정됩니다
+        - 조사 결합 허용: 제시어가 "좀비"라면 "좀비가", "좀비를" 등 OK
+        - 합성어 허용: "좀비처럼", "좀비영화" 등 OK
         - 유의어 불허: 비슷한 다른 단어로 대체 불가
         - 일부만 사용 불허: 제시어의 일부만 쓰면 안 됨
         
@@ -173,11 +232,21 @@ public final class PromptTemplates {
         ```
         """;
 
+    /**
+     * Story Writer 세션 정보 (게임 동안 고정, 시스템 프롬프트 뒤에 별도 메시지로 전달)
+     */
+    public static final String STORY_WRITER_SESSION_PROMPT = """
+        ## 당신의 비밀 정보
+        - 당신의 장르: {aiGenre}
+        - 당신의 제시어: "{aiKeyword}"
+        """;
+
     /**
      * Story Writer 사용자 프롬프트 템플릿
      */
     public static final String STORY_WRITER_USER_PROMPT = """
         ## 현재 상황
+        - 제시어 상태: {keywordStatus}
         - 현재 턴: {currentTurn} / {maxTurns}
         - 제시어 사용 지시: {shouldUseKeyword}
         
@@ -191,6 +260,25 @@ public final class PromptTemplates {
         JSON 형식으로 응답해주세요.
         """;
 
+    /**
+     * Story Writer 대화 이어가기 프롬프트 (이전 대화 기록 뒤에 붙여 지난 AI 턴 이후 변경분만 전달)
+     */
+    public static final String STORY_WRITER_CONTINUE_PROMPT = """
+        ## 지난 턴 이후 추가된 스토리
+        {newTurns}
+        
+        ## 현재 상황
+        - 제시어 상태: {keywordStatus}
+        - 현재 턴: {currentTurn} / {maxTurns}
+        - 제시어 사용 지시: {shouldUseKeyword}
+        
+        ## 지시사항
+        {instruction}
+        
+        지금까지의 스토리에 이어서 다음 턴의 내용을 작성하세요.
+        JSON 형식으로 응답해주세요.
+        """;
+
     /**
      * Story Writer 제시어 사용 지시문
      */
@@ -276,12 +364,19 @@ public final class PromptTemplates {
         ```
         """;
 
+    /**
+     * Keyword Guesser 세션 정보 (게임 동안 고정, 시스템 프롬프트 뒤에 별도 메시지로 전달)
+     */
+    public static final String KEYWORD_GUESSER_SESSION_PROMPT = """
+        ## 내 정보
+        - 내 장르: {myGenre}
+        """;
+
     /**
      * Keyword Guesser 사용자 프롬프트 템플릿
      */
     public static final String KEYWORD_GUESSER_USER_PROMPT = """
         ## 현재 상황
-        - 내 장르: {myGenre}
         - 상대 장르 추정: {opponentGenreGuess}
         - 남은 추측 기회: {guessesRemaining}회
         - 현재 턴: {currentTurn} / {maxTurns}
@@ -298,5 +393,72 @@ public final class PromptTemplates {
         
         JSON 형식으로 응답해주세요.
         """;
-}
 
+    /**
+     * AI 턴 시스템 프롬프트 (스토리 작성 + 상대 제시어 추측을 한 번의 호출로 처리)
+     * Story Writer 규칙을 그대로 앞에 두어 프롬프트 캐시 접두어를 공유
+     */
+    public static final String AI_TURN_SYSTEM_PROMPT = STORY_WRITER_SYSTEM_PROMPT + """
+        
+        # 추가 임무: 상대 제시어 추측
+        스토리를 작성하는 같은 턴에 상대(👤)의 제시어를 추측할지도 결정합니다.
+        
+        ## 추측 전략
+        - 상대 장르와 안 어울리는 단어, 맥락 없이 등장한 단어, 억지로 끼워 넣은 단어를 의심
+        - 너무 노골적으로 어색한 단어는 블러핑일 수 있음
+        - 확신도 70% 이상일 때만 GUESS, 아니면 PASS (틀리면 -1점 + 기회 소모)
+        - 조사/합성어는 떼고 원본 단어만 추측 ("좀비가" → "좀비")
+        
+        ## 응답 형식 (AI 턴)
+        AI 턴에는 위 응답 형식 대신 아래 JSON 형식으로만 응답하세요. 다른 텍스트 없이 JSON만 출력하세요.
+        
+        ```json
+        {
+          "content": "작성할 문장들 (1-3문장)",
+          "keywordUsed": true/false,
+          "bluffWord": "미끼 단어 (없으면 null)",
+          "reasoning": "이번 턴의 전략적 판단 근거",
+          "decision": "GUESS" 또는 "PASS",
+          "guessWord": "추측할 단어 (PASS면 null)",
+          "confidence": 0-100
+        }
+        ```
+        """;
+
+    /**
+     * AI 턴 추측 지시 (사용자 프롬프트 뒤에 추가)
+     */
+    public static final String AI_TURN_GUESS_PROMPT = """
+        
+        ## 제시어 추측
+        - 남은 추측 기회: {guessesRemaining}회
+        상대(👤) 문장에서 제시어로 의심되는 단어가 있으면 decision/guessWord/confidence에 함께 답하세요.
+        """;
+
+    /**
+     * Story Summarizer 시스템 프롬프트 (긴 게임의 이전 턴 요약)
+     */
+    public static final String STORY_SUMMARIZER_SYSTEM_PROMPT = """
+        당신은 소설 공동 창작 게임의 기록 담당입니다.
+        이전 줄거리 요약과 새 턴들을 받아 하나의 줄거리 요약으로 합칩니다.
+        
+        ## 규칙
+        - 등장인물, 장소, 사건, 인물 관계, 분위기 변화를 빠짐없이 남기세요
+        - 각 턴에 처음 등장한 특이한 사물이나 단어는 원문 그대로 남기세요
+        - 평가나 추측을 덧붙이지 말고 일어난 일만 쓰세요
+        - 한국어 평문으로 10문장 이내로 작성하세요 (JSON이나 목록 형식 금지)
+        """;
+
+    /**
+     * Story Summarizer 사용자 프롬프트 템플릿
+     */
+    public static final String STORY_SUMMARIZER_USER_PROMPT = """
+        ## 이전 줄거리 요약
+        {previousSummary}
+        
+        ## 새 턴
+        {newTurns}
+        
+        위 내용을 합친 줄거리 요약을 작성하세요.
+        """;
+}
@@ -0,0 +1,78 @@
+package com.example.doublecross.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가중치 샘플링용 Walker 별칭 테이블 (Vose 방식으로 생성)
+ * 생성 O(n), 샘플링 O(1)이며 샘플링 중 객체를 만들지 않음
+ */
+final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * @param weights 항목별 가중치 (0 이상, 합이 0보다 커야 함)
+     */
+    static AliasTable of(double[] weights) {
+        int n = weights.length;
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        if (n == 0 || sum <= 0) {
+            throw new IllegalArgumentException("Alias table needs at least one positive weight");
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 남은 칸은 부동소수 오차만 있으므로 확률 1로 채움
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1.0;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1.0;
+        }
+        return new AliasTable(probability, alias);
+    }
+
+    /**
+     * 가중치에 비례해 항목 위치 하나를 뽑음
+     */
+    int sample(ThreadLocalRandom random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.dto.websocket.GameEvent;
+import com.example.doublecross.dto.websocket.GameEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameEventPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 이벤트 전송
+     */
+    public void send(String sessionId, GameEventType type, Object payload) {
+        GameEvent event = GameEvent.of(type, payload);
+        String destination = "/topic/game/" + sessionId;
+        messagingTemplate.convertAndSend(destination, event);
+        log.debug("Sent event {} to {}", type, destination);
+    }
+
+    public void send(UUID sessionId, GameEventType type, Object payload) {
+        send(sessionId.toString(), type, payload);
+    }
+
+    /**
+     * 에러 전송
+     */
+    public void sendError(String sessionId, String code, String message) {
+        GameEvent.ErrorPayload payload = GameEvent.ErrorPayload.builder()
+                .code(code)
+                .message(message)
+                .build();
+
+        send(sessionId, GameEventType.ERROR, payload);
+    }
+
+    public void sendError(UUID sessionId, String code, String message) {
+        sendError(sessionId.toString(), code, message);
+    }
+}
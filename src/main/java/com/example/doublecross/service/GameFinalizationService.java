@@ -0,0 +1,149 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.entity.GameResult;
+import com.example.doublecross.domain.enums.GameStatus;
+import com.example.doublecross.domain.enums.JudgingStage;
+import com.example.doublecross.dto.response.ResultPendingResponse;
+import com.example.doublecross.dto.websocket.GameEvent;
+import com.example.doublecross.dto.websocket.GameEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 게임 종료 처리 (비동기 장르 판정)
+ * 마지막 턴은 JUDGING 상태로 전환만 하고 즉시 반환하며,
+ * 장르 판정과 결과 저장은 전용 실행기에서 수행한 뒤 RESULT_READY 이벤트로 알림
+ */
+@Slf4j
+@Service
+public class GameFinalizationService {
+
+    // ANALYZING 상태가 이 시간 이상 지속되면 판정 작업이 유실된 것으로 보고 재시도
+    private static final long STALE_JUDGING_MILLIS = 120_000;
+
+    // 재제출은 이 간격마다 한 번만 (동시에 들어온 결과 조회가 각각 제출하지 않도록)
+    private static final Duration RETRY_CLAIM_WINDOW = Duration.ofMillis(STALE_JUDGING_MILLIS);
+
+    private final GameService gameService;
+    private final TimerService timerService;
+    private final GameEventPublisher eventPublisher;
+    private final StoryContextService storyContextService;
+    private final StoryConversationService storyConversationService;
+    private final GenreTurnJudgeService genreTurnJudgeService;
+    private final ThreadPoolTaskExecutor judgeExecutor;
+
+    public GameFinalizationService(GameService gameService,
+                                   TimerService timerService,
+                                   GameEventPublisher eventPublisher,
+                                   StoryContextService storyContextService,
+                                   StoryConversationService storyConversationService,
+                                   GenreTurnJudgeService genreTurnJudgeService,
+                                   @Qualifier("judgeExecutor") ThreadPoolTaskExecutor judgeExecutor) {
+        this.gameService = gameService;
+        this.timerService = timerService;
+        this.eventPublisher = eventPublisher;
+        this.storyContextService = storyContextService;
+        this.storyConversationService = storyConversationService;
+        this.genreTurnJudgeService = genreTurnJudgeService;
+        this.judgeExecutor = judgeExecutor;
+    }
+
+    /**
+     * 게임 종료 요청
+     * @return 이번 요청으로 판정이 시작되었으면 true, 이미 판정 중/종료된 게임이면 false
+     */
+    public boolean requestFinish(UUID sessionId) {
+        if (!gameService.markJudging(sessionId)) {
+            return false;
+        }
+
+        timerService.updateJudgingStage(sessionId, JudgingStage.QUEUED);
+        submit(sessionId);
+        return true;
+    }
+
+    /**
+     * 판정 진행 상황 조회
+     * 판정 작업이 실패했거나 유실된 경우 다시 제출 (Redis SET NX로 선점한 요청만)
+     */
+    public ResultPendingResponse getProgress(UUID sessionId) {
+        JudgingStage stage = timerService.getJudgingStage(sessionId);
+        long elapsed = timerService.getJudgingElapsedMillis(sessionId);
+
+        boolean lost = stage == null
+                || stage == JudgingStage.FAILED
+                || (stage == JudgingStage.ANALYZING && elapsed > STALE_JUDGING_MILLIS);
+
+        if (lost && timerService.claimJudgingRetry(sessionId, RETRY_CLAIM_WINDOW)) {
+            log.warn("Resubmitting judging for session {} (stage: {}, elapsed: {}ms)", sessionId, stage, elapsed);
+            timerService.updateJudgingStage(sessionId, JudgingStage.QUEUED);
+            submit(sessionId);
+            stage = JudgingStage.QUEUED;
+            elapsed = 0;
+        }
+
+        return ResultPendingResponse.builder()
+                .sessionId(sessionId)
+                .status(GameStatus.JUDGING)
+                .stage(stage)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * 판정 작업 제출
+     */
+    private void submit(UUID sessionId) {
+        try {
+            judgeExecutor.execute(() -> judge(sessionId));
+        } catch (TaskRejectedException e) {
+            log.error("Judging queue is full, session {} will be retried on next result request", sessionId);
+            timerService.updateJudgingStage(sessionId, JudgingStage.FAILED);
+        }
+    }
+
+    /**
+     * 장르 판정 및 결과 저장
+     */
+    private void judge(UUID sessionId) {
+        try {
+            // 먼저 제출된 작업이 이미 끝낸 경우
+            if (timerService.getJudgingStage(sessionId) == JudgingStage.DONE) {
+                log.info("Judging for session {} already done, skipping duplicate job", sessionId);
+                return;
+            }
+            timerService.updateJudgingStage(sessionId, JudgingStage.ANALYZING);
+
+            GameResult result = gameService.finishGame(sessionId);
+
+            timerService.updateJudgingStage(sessionId, JudgingStage.DONE);
+            storyContextService.evict(sessionId);
+            storyConversationService.end(sessionId);
+            genreTurnJudgeService.delete(sessionId);
+
+            GameEvent.ResultReadyPayload payload = GameEvent.ResultReadyPayload.builder()
+                    .sessionId(sessionId.toString())
+                    .winner(result.getWinner())
+                    .playerScore(result.getPlayerScore())
+                    .aiScore(result.getAiScore())
+                    .build();
+
+            eventPublisher.send(sessionId, GameEventType.RESULT_READY, payload);
+
+        } catch (Exception e) {
+            log.error("Error judging session {}: {}", sessionId, e.getMessage(), e);
+            if (timerService.getJudgingStage(sessionId) == JudgingStage.DONE) {
+                // 중복 작업의 실패는 이미 결과를 받은 클라이언트에 알리지 않음
+                return;
+            }
+            timerService.updateJudgingStage(sessionId, JudgingStage.FAILED);
+            eventPublisher.sendError(sessionId, "JUDGE_ERROR", "결과 판정 중 오류가 발생했습니다.");
+        }
+    }
+}
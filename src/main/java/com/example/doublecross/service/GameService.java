@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -33,6 +34,7 @@ public class GameService {
     private final ScoreService scoreService;
     private final StoryService storyService;
     private final GenreJudgeService genreJudgeService;
+    private final TransactionTemplate transactionTemplate;
 
     private final Random random = new Random();
 
@@ -80,7 +82,7 @@ public class GameService {
     private Participant createParticipant(GameSession session, ParticipantType type,
                                           Genre secretGenre, Genre opponentGenre, Difficulty difficulty) {
         // 상대 장르에서 제시어 배정
-        Keyword keyword = keywordService.findRandomKeyword(opponentGenre, difficulty);
+        Keyword keyword = keywordService.pickKeyword(session.getSessionId(), opponentGenre, difficulty);
 
         Participant participant = Participant.builder()
                 .session(session)
@@ -151,41 +153,91 @@ public class GameService {
     }
 
     /**
-     * 게임 종료 및 결과 계산
+     * 게임 종료 판정 단계로 전환
+     * @return 이번 호출로 전환되었으면 true, 이미 판정 중이거나 종료된 게임이면 false
      */
     @Transactional
+    public boolean markJudging(UUID sessionId) {
+        GameSession session = getSession(sessionId);
+
+        if (session.getStatus() == GameStatus.JUDGING || session.getStatus() == GameStatus.FINISHED) {
+            return false;
+        }
+        if (session.getStatus() != GameStatus.IN_PROGRESS) {
+            throw new GameException("진행 중인 게임이 아닙니다.");
+        }
+
+        session.setStatus(GameStatus.JUDGING);
+        gameSessionRepository.save(session);
+
+        log.info("Game {} moved to judging", sessionId);
+        return true;
+    }
+
+    /**
+     * 게임 종료 및 결과 계산
+     *
+     * 장르 판정(LLM 호출) 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 나누어 처리
+     * 1. 읽기 트랜잭션: 전체 스토리 조회
+     * 2. 장르 판정: 트랜잭션 없음 (턴별 판정이 켜져 있으면 턴별 결과 집계)
+     * 3. 쓰기 트랜잭션: 상태 재검증 후 점수 계산 및 결과 저장
+     */
     public GameResult finishGame(UUID sessionId) {
-        GameSession session = gameSessionRepository.findByIdWithParticipants(sessionId)
-                .orElseThrow(() -> new GameNotFoundException(sessionId));
+        // 1. 전체 스토리 조회
+        StoryContext story = transactionTemplate.execute(status -> {
+            GameSession session = gameSessionRepository.findByIdWithParticipants(sessionId)
+                    .orElseThrow(() -> new GameNotFoundException(sessionId));
 
-        if (session.getStatus() == GameStatus.FINISHED) {
-            return gameResultRepository.findBySessionSessionId(sessionId)
-                    .orElseThrow(() -> new GameException("게임 결과를 찾을 수 없습니다."));
+            if (session.getStatus() == GameStatus.FINISHED) {
+                return null;
+            }
+            return storyService.getStoryContext(session);
+        });
+
+        if (story == null) {
+            return getGameResult(sessionId);
         }
 
-        // 1. 전체 스토리 조합
-        String fullStory = storyService.buildFullStory(session);
+        // 2. 장르 판정 (AI 호출, 트랜잭션 밖)
+        GenreAnalysis analysis = genreJudgeService.analyzeStory(sessionId, story);
 
-        // 2. 장르 판정 (AI 호출)
-        GenreAnalysis analysis = genreJudgeService.analyzeStory(fullStory);
+        // 3. 결과 저장
+        return transactionTemplate.execute(status -> saveGameResult(sessionId, analysis));
+    }
 
-        // 3. 참가자 조회
+    /**
+     * 장르 판정 결과를 바탕으로 점수 계산 및 결과 저장
+     */
+    private GameResult saveGameResult(UUID sessionId, GenreAnalysis analysis) {
+        // 같은 게임의 판정 작업이 두 번 돌아도 결과는 한 번만 저장되도록 세션 행을 잠금
+        GameSession session = gameSessionRepository.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new GameNotFoundException(sessionId));
+
+        // 판정 중 다른 요청이 먼저 종료 처리한 경우
+        if (session.getStatus() == GameStatus.FINISHED) {
+            return getGameResult(sessionId);
+        }
+        if (session.getStatus() == GameStatus.CANCELLED) {
+            throw new GameException("취소된 게임입니다.");
+        }
+
+        // 참가자 조회
         Participant player = getParticipant(sessionId, ParticipantType.PLAYER);
         Participant ai = getParticipant(sessionId, ParticipantType.AI);
 
         int finalTurn = session.getCurrentTurn();
 
-        // 4. 소화 성공 보너스 계산
+        // 소화 성공 보너스 계산
         calculateDigestBonus(player, finalTurn);
         calculateDigestBonus(ai, finalTurn);
 
-        // 5. 장르 승리 점수 계산
+        // 장르 승리 점수 계산
         calculateGenreScore(player, ai, analysis, finalTurn);
 
-        // 6. 승자 결정
+        // 승자 결정
         Winner winner = determineWinner(player.getScore(), ai.getScore());
 
-        // 7. 결과 저장
+        // 결과 저장
         GameResult result = GameResult.builder()
                 .session(session)
                 .playerScore(player.getScore())
@@ -207,7 +259,7 @@ public class GameService {
 
         result = gameResultRepository.save(result);
 
-        // 8. 세션 상태 변경
+        // 세션 상태 변경
         session.setStatus(GameStatus.FINISHED);
         session.setFinishedAt(OffsetDateTime.now());
         session.setGameResult(result);
@@ -277,7 +329,7 @@ public class GameService {
     public void cancelGame(UUID sessionId) {
         GameSession session = getSession(sessionId);
 
-        if (session.getStatus() == GameStatus.FINISHED) {
+        if (session.getStatus() == GameStatus.FINISHED || session.getStatus() == GameStatus.JUDGING) {
             throw new GameException("이미 종료된 게임은 취소할 수 없습니다.");
         }
 
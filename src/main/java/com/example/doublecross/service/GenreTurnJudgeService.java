@@ -0,0 +1,350 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.ai.AiGateway;
+import com.example.doublecross.ai.AiJsonParser;
+import com.example.doublecross.ai.AiTaskType;
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.domain.entity.GameSession;
+import com.example.doublecross.domain.enums.Genre;
+import com.example.doublecross.dto.GenreAnalysis;
+import com.example.doublecross.dto.TurnGenreScore;
+import com.example.doublecross.dto.UnnaturalElement;
+import com.example.doublecross.prompt.PromptCatalog;
+import com.example.doublecross.prompt.PromptTemplates;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 턴별 장르 판정 (game.ai.incremental-judge)
+ *
+ * 매 턴 저장이 커밋되면 새 문장만 백그라운드에서 판정해 Redis 해시(턴 → 판정 결과)에 보관하고,
+ * 게임 종료 시에는 전체 스토리를 다시 읽는 대신 턴별 결과를 문장 길이 가중 평균으로 집계
+ * 종료 시점에 판정되지 않은 턴이 적으면 그 턴만 바로 판정하고, 많으면 null을 반환해 전체 스토리 판정으로 대체
+ * 마지막 턴처럼 백그라운드 판정이 아직 진행 중인 턴은 같은 턴을 두 번 판정하지 않도록 잠시 기다렸다가 집계
+ */
+@Slf4j
+@Service
+public class GenreTurnJudgeService {
+
+    private static final String KEY_PREFIX = "game:story:";
+    private static final String KEY_SUFFIX = ":genre-turns";
+
+    /** 턴 판정 시 맥락으로 함께 보내는 직전 문장 수 */
+    private static final int CONTEXT_ENTRIES = 4;
+
+    private final AiGateway aiGateway;
+    private final PromptCatalog promptCatalog;
+    private final AiJsonParser aiJsonParser;
+    private final StoryContextService storyContextService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService judgeExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.IncrementalJudge properties;
+
+    /** 세션별 진행 중인 백그라운드 턴 판정 (턴 → 작업, 끝나면 제거) */
+    private final Map<UUID, Map<Integer, CompletableFuture<Void>>> inFlight = new ConcurrentHashMap<>();
+
+    public GenreTurnJudgeService(AiGateway aiGateway,
+                                 PromptCatalog promptCatalog,
+                                 AiJsonParser aiJsonParser,
+                                 StoryContextService storyContextService,
+                                 StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("aiCallExecutor") ExecutorService judgeExecutor,
+                                 MeterRegistry meterRegistry,
+                                 AiProperties aiProperties) {
+        this.aiGateway = aiGateway;
+        this.promptCatalog = promptCatalog;
+        this.aiJsonParser = aiJsonParser;
+        this.storyContextService = storyContextService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.judgeExecutor = judgeExecutor;
+        this.meterRegistry = meterRegistry;
+        this.properties = aiProperties.incrementalJudge();
+    }
+
+    /**
+     * 저장된 턴의 판정을 트랜잭션 커밋 후 백그라운드로 실행
+     * 맥락(직전 문장들)은 호출 시점의 스토리 컨텍스트에서 가져옴
+     */
+    public void scoreAfterCommit(GameSession session, int turn, String sentence) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        UUID sessionId = session.getSessionId();
+        String previousStory = previousStory(storyContextService.get(session).entries(), turn);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(sessionId, turn, previousStory, sentence);
+                }
+            });
+        } else {
+            submit(sessionId, turn, previousStory, sentence);
+        }
+    }
+
+    /**
+     * 턴별 판정 결과 집계
+     *
+     * @param entries 전체 스토리 항목 (초기 상황은 턴 0으로 집계에서 제외)
+     * @return 집계한 장르 판정 (비활성화이거나 판정되지 않은 턴이 많으면 null)
+     */
+    public GenreAnalysis aggregate(UUID sessionId, List<StoryContext.Entry> entries) {
+        if (!properties.enabled()) {
+            return null;
+        }
+
+        List<StoryContext.Entry> turns = entries.stream()
+                .filter(entry -> entry.turn() > 0)
+                .toList();
+        if (turns.isEmpty()) {
+            return null;
+        }
+
+        awaitInFlight(sessionId);
+        Map<Integer, TurnGenreScore> scores = load(sessionId);
+        List<StoryContext.Entry> missing = turns.stream()
+                .filter(entry -> !scores.containsKey(entry.turn()))
+                .toList();
+        if (missing.size() > properties.maxMissingTurns()) {
+            log.info("Session {} has {} unjudged turns, falling back to full story judging", sessionId, missing.size());
+            count("ai.genre.aggregate", "fallback");
+            return null;
+        }
+
+        // 백그라운드 판정이 실패했거나 기다려도 끝나지 않은 턴은 바로 판정
+        for (StoryContext.Entry entry : missing) {
+            try {
+                scores.put(entry.turn(), score(entry.turn(), previousStory(entries, entry.turn()), entry.content()));
+            } catch (RuntimeException e) {
+                log.warn("Turn {} judging failed for session {}, falling back to full story judging: {}",
+                        entry.turn(), sessionId, e.getMessage());
+                count("ai.genre.aggregate", "fallback");
+                return null;
+            }
+        }
+
+        count("ai.genre.aggregate", "aggregated");
+        return combine(turns, scores, missing.size());
+    }
+
+    /**
+     * 턴별 판정 결과 삭제 (게임 종료 후)
+     */
+    public void delete(UUID sessionId) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(key(sessionId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete turn genre scores for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void submit(UUID sessionId, int turn, String previousStory, String sentence) {
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> {
+                try {
+                    store(sessionId, turn, score(turn, previousStory, sentence));
+                    count("ai.genre.turn-judge", "scored");
+                } catch (RuntimeException e) {
+                    // 종료 시 집계에서 이 턴만 다시 판정
+                    log.warn("Turn {} genre judging failed for session {}: {}", turn, sessionId, e.getMessage());
+                    count("ai.genre.turn-judge", "failed");
+                }
+            }, judgeExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Turn {} genre judging rejected for session {}", turn, sessionId);
+            return;
+        }
+
+        inFlight.compute(sessionId, (id, turns) -> {
+            Map<Integer, CompletableFuture<Void>> pending = turns != null ? turns : new ConcurrentHashMap<>();
+            pending.put(turn, future);
+            return pending;
+        });
+        // 이미 끝났으면 바로 제거됨
+        future.whenComplete((result, error) -> inFlight.computeIfPresent(sessionId, (id, turns) -> {
+            turns.remove(turn, future);
+            return turns.isEmpty() ? null : turns;
+        }));
+    }
+
+    /**
+     * 세션의 진행 중인 턴 판정이 끝날 때까지 기다림 (inFlightWait까지, 넘으면 남은 턴은 집계에서 바로 판정)
+     */
+    private void awaitInFlight(UUID sessionId) {
+        Map<Integer, CompletableFuture<Void>> turns = inFlight.get(sessionId);
+        if (turns == null || turns.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] pending = turns.values().toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(pending).get(properties.inFlightWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("Turn genre judging for session {} still running after {}, judging remaining turns now",
+                    sessionId, properties.inFlightWait());
+            count("ai.genre.aggregate", "in-flight-timeout");
+        } catch (ExecutionException e) {
+            log.warn("Turn genre judging for session {} failed: {}", sessionId, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 새 문장 하나를 LLM으로 판정 (뜬금없는 요소의 턴은 판정한 턴으로 고정)
+     */
+    private TurnGenreScore score(int turn, String previousStory, String sentence) {
+        String userPrompt = promptCatalog.genreTurnJudgeUser().render(Map.of(
+                "previousStory", previousStory,
+                "turn", String.valueOf(turn),
+                "sentence", sentence));
+
+        String response = aiGateway.call(
+                AiTaskType.GENRE_TURN_JUDGE, PromptTemplates.GENRE_TURN_JUDGE_SYSTEM_PROMPT, userPrompt);
+        TurnGenreScore score = aiJsonParser.parse(AiTaskType.GENRE_TURN_JUDGE, response, TurnGenreScore.class);
+
+        List<UnnaturalElement> elements = score.unnaturalElements() == null ? List.of()
+                : score.unnaturalElements().stream()
+                        .map(element -> new UnnaturalElement(turn, element.element(), element.reason()))
+                        .toList();
+        return new TurnGenreScore(score.genreAnalysis() != null ? score.genreAnalysis() : Map.of(), elements);
+    }
+
+    /**
+     * 턴별 결과를 전체 스토리 판정 형식으로 합산
+     * 장르 비율은 문장 길이 가중 평균, 품질 계수는 뜬금없는 요소 수로 GENRE_JUDGE_SYSTEM_PROMPT와 같은 기준 적용
+     */
+    private static GenreAnalysis combine(List<StoryContext.Entry> turns, Map<Integer, TurnGenreScore> scores,
+                                         int judgedNow) {
+        Map<String, Double> weighted = new LinkedHashMap<>();
+        List<UnnaturalElement> unnatural = new ArrayList<>();
+        long totalWeight = 0;
+
+        for (StoryContext.Entry entry : turns) {
+            TurnGenreScore score = scores.get(entry.turn());
+            int weight = Math.max(1, entry.content().length());
+            totalWeight += weight;
+            for (Genre genre : Genre.values()) {
+                int ratio = score.genreAnalysis().getOrDefault(genre.name(), 0);
+                weighted.merge(genre.name(), (double) ratio * weight, Double::sum);
+            }
+            unnatural.addAll(score.unnaturalElements());
+        }
+
+        double qualityFactor = qualityFactor(unnatural.size());
+        Map<String, Integer> genreAnalysis = new LinkedHashMap<>();
+        Map<String, Double> finalScores = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> genre : weighted.entrySet()) {
+            int ratio = (int) Math.round(genre.getValue() / totalWeight);
+            genreAnalysis.put(genre.getKey(), ratio);
+            finalScores.put(genre.getKey(), Math.round(ratio * qualityFactor * 10) / 10.0);
+        }
+
+        String primaryGenre = finalScores.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+        String reasoning = "턴별 판정 " + turns.size() + "개 집계 (종료 시 판정 " + judgedNow + "개), 뜬금없는 요소 "
+                + unnatural.size() + "개";
+
+        return new GenreAnalysis(genreAnalysis, qualityFactor, unnatural, finalScores, primaryGenre, reasoning);
+    }
+
+    private static double qualityFactor(int unnaturalCount) {
+        if (unnaturalCount == 0) {
+            return 1.0;
+        }
+        if (unnaturalCount <= 2) {
+            return 0.8;
+        }
+        if (unnaturalCount <= 4) {
+            return 0.6;
+        }
+        return 0.4;
+    }
+
+    /**
+     * 해당 턴 직전의 문장들 (작성자 표시 없이 본문만)
+     */
+    private static String previousStory(List<StoryContext.Entry> entries, int turn) {
+        List<StoryContext.Entry> before = entries.stream()
+                .filter(entry -> entry.turn() < turn)
+                .toList();
+        if (before.isEmpty()) {
+            return "(없음)";
+        }
+        return before.subList(Math.max(0, before.size() - CONTEXT_ENTRIES), before.size()).stream()
+                .map(StoryContext.Entry::content)
+                .collect(Collectors.joining("\n\n"));
+    }
+
+    private void store(UUID sessionId, int turn, TurnGenreScore score) {
+        try {
+            String key = key(sessionId);
+            redisTemplate.opsForHash().put(key, String.valueOf(turn), objectMapper.writeValueAsString(score));
+            redisTemplate.expire(key, properties.ttl());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to store turn {} genre score for session {}: {}", turn, sessionId, e.getMessage());
+        }
+    }
+
+    private Map<Integer, TurnGenreScore> load(UUID sessionId) {
+        Map<Integer, TurnGenreScore> scores = new HashMap<>();
+        try {
+            for (Map.Entry<Object, Object> field : redisTemplate.opsForHash().entries(key(sessionId)).entrySet()) {
+                scores.put(Integer.parseInt(field.getKey().toString()),
+                        objectMapper.readValue(field.getValue().toString(), TurnGenreScore.class));
+            }
+        } catch (DataAccessException | JsonProcessingException | NumberFormatException e) {
+            log.warn("Failed to load turn genre scores for session {}: {}", sessionId, e.getMessage());
+        }
+        return scores;
+    }
+
+    private void count(String name, String result) {
+        Counter.builder(name)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String key(UUID sessionId) {
+        return KEY_PREFIX + sessionId + KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.entity.Keyword;
+import com.example.doublecross.domain.enums.Difficulty;
+import com.example.doublecross.domain.enums.Genre;
+import com.example.doublecross.domain.entity.KeywordStats;
+import com.example.doublecross.domain.repository.KeywordRepository;
+import com.example.doublecross.domain.repository.KeywordStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 제시어 카탈로그 (메모리 스냅샷)
+ * 시작 시 keyword 테이블 전체를 읽어 두고, 제시어 선택은 DB 조회 없이 별칭 테이블 샘플링으로 처리 (O(1))
+ * - 스냅샷은 불변이며 다시 읽을 때 통째로 교체 (읽는 쪽은 잠금 없음)
+ * - 주기적으로 테이블 버전(행 수 + 마지막 수정 시각)을 확인해 바뀌었을 때만 다시 읽음
+ * - 관리자 API(POST /api/admin/keywords/reload)로 즉시 다시 읽기 가능
+ * 스냅샷마다 전체 제시어의 매칭 오토마톤(KeywordMatcher)도 함께 만들어 둠
+ *
+ * 선택 가중치 = 난이도 가중치 × 들킨 비율 가중치
+ * - 난이도: 요청한 난이도 1.0, 한 단계 차이 0.15, 두 단계 차이 0.03 (요청 난이도에 제시어가 없어도 선택 가능)
+ * - 들킨 비율: 사용 대비 정답 추측 비율이 높은(너무 쉽게 들키는) 제시어일수록 낮음 (0.5-1.5)
+ * 세션에서 이미 배정한 제시어는 KeywordExclusion 비트셋으로 건너뜀
+ * - 비트셋은 스냅샷 세대(다시 읽을 때마다 증가)로 구분 (버전 문자열은 직접 수정 후 다시 읽어도 같을 수 있음)
+ */
+@Slf4j
+@Component
+public class KeywordCatalog {
+
+    private static final double[] DIFFICULTY_MIX = {1.0, 0.15, 0.03};
+
+    /** 제외된 제시어를 다시 뽑았을 때 재시도 횟수 (넘으면 순차 탐색) */
+    private static final int MAX_REJECTIONS = 16;
+
+    /** 카탈로그가 비어 있을 때 첫 사용 시 다시 읽는 최소 간격 */
+    private static final long EMPTY_RELOAD_BACKOFF_MILLIS = 5_000;
+
+    private final KeywordRepository keywordRepository;
+    private final KeywordStatsRepository keywordStatsRepository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastEmptyReloadAt;
+    private long generation;
+
+    public KeywordCatalog(KeywordRepository keywordRepository,
+                          KeywordStatsRepository keywordStatsRepository,
+                          MeterRegistry meterRegistry) {
+        this.keywordRepository = keywordRepository;
+        this.keywordStatsRepository = keywordStatsRepository;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("keyword.catalog.size", this, catalog -> catalog.snapshot.size())
+                .description("Keywords in the in-memory catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Failed to load keyword catalog on startup, will retry on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 장르와 난이도에서 가중치 랜덤 제시어 선택 (난이도가 null이면 난이도 구분 없이 선택)
+     */
+    public Keyword pick(Genre genre, Difficulty difficulty) {
+        return pick(genre, difficulty, null);
+    }
+
+    /**
+     * 장르와 난이도에서 가중치 랜덤 제시어 선택, 세션에서 이미 배정한 제시어는 제외
+     * 장르의 모든 제시어가 제외되었으면 제외 없이 선택
+     */
+    public Keyword pick(Genre genre, Difficulty difficulty, KeywordExclusion exclusion) {
+        Snapshot current = current();
+        Pool pool = difficulty != null
+                ? current.byDifficulty().getOrDefault(genre, Map.of()).get(difficulty)
+                : current.byGenre().get(genre);
+        if (pool == null) {
+            throw new IllegalStateException("No keywords found for genre: " + genre);
+        }
+
+        BitSet excluded = exclusion != null
+                ? exclusion.bits(current.generation(), id -> current.indexById().getOrDefault(id, -1))
+                : null;
+        return current.all().get(sample(pool, excluded));
+    }
+
+    /**
+     * 장르에서 가중치 랜덤 제시어 선택
+     */
+    public Keyword pick(Genre genre) {
+        return pick(genre, null, null);
+    }
+
+    /**
+     * 전체 제시어
+     */
+    public List<Keyword> all() {
+        return current().all();
+    }
+
+    /**
+     * 전체 제시어 매칭 오토마톤
+     */
+    public KeywordMatcher matcher() {
+        return current().matcher();
+    }
+
+    /**
+     * 장르의 전체 제시어
+     */
+    public List<Keyword> byGenre(Genre genre) {
+        Snapshot current = current();
+        Pool pool = current.byGenre().get(genre);
+        if (pool == null) {
+            return List.of();
+        }
+        List<Keyword> keywords = new ArrayList<>(pool.indices().length);
+        for (int index : pool.indices()) {
+            keywords.add(current.all().get(index));
+        }
+        return keywords;
+    }
+
+    /**
+     * keyword 테이블을 다시 읽어 스냅샷 교체
+     *
+     * @return 새 스냅샷의 제시어 수
+     */
+    public synchronized int reload() {
+        String version = keywordRepository.findCatalogVersion();
+        List<Keyword> keywords = List.copyOf(keywordRepository.findAllByOrderByKeywordId());
+        snapshot = build(++generation, version, keywords, KeywordMatcher.of(keywords));
+        Counter.builder("keyword.catalog.reloads")
+                .register(meterRegistry)
+                .increment();
+
+        log.info("Keyword catalog loaded: {} keywords in {} genres (version {})",
+                keywords.size(), snapshot.byGenre().size(), version);
+        return keywords.size();
+    }
+
+    /**
+     * 제시어는 그대로 두고 keyword_stats로 들킨 비율 가중치만 다시 계산 (통계 집계 후 호출)
+     */
+    public synchronized void reloadWeights() {
+        Snapshot current = snapshot;
+        if (current == Snapshot.EMPTY) {
+            return;
+        }
+        // 제시어 목록과 인덱스가 그대로이므로 같은 세대
+        snapshot = build(current.generation(), current.version(), current.all(), current.matcher());
+        log.debug("Keyword catalog weights refreshed ({} keywords)", current.size());
+    }
+
+    private Snapshot build(long generation, String version, List<Keyword> keywords, KeywordMatcher matcher) {
+        double[] catchWeights = catchWeights(keywords);
+
+        Map<UUID, Integer> indexById = new HashMap<>();
+        Map<Genre, List<Integer>> grouped = new EnumMap<>(Genre.class);
+        for (int i = 0; i < keywords.size(); i++) {
+            Keyword keyword = keywords.get(i);
+            indexById.put(keyword.getKeywordId(), i);
+            grouped.computeIfAbsent(keyword.getTargetGenre(), g -> new ArrayList<>()).add(i);
+        }
+
+        Map<Genre, Map<Difficulty, Pool>> byDifficulty = new EnumMap<>(Genre.class);
+        Map<Genre, Pool> byGenre = new EnumMap<>(Genre.class);
+        grouped.forEach((genre, list) -> {
+            int[] indices = list.stream().mapToInt(Integer::intValue).toArray();
+            byGenre.put(genre, Pool.of(indices, index -> catchWeights[index]));
+
+            Map<Difficulty, Pool> pools = new EnumMap<>(Difficulty.class);
+            for (Difficulty requested : Difficulty.values()) {
+                pools.put(requested, Pool.of(indices, index -> catchWeights[index]
+                        * DIFFICULTY_MIX[Math.abs(requested.ordinal() - keywords.get(index).getDifficulty().ordinal())]));
+            }
+            byDifficulty.put(genre, pools);
+        });
+
+        return new Snapshot(generation, version, byDifficulty, byGenre, keywords, Map.copyOf(indexById), matcher);
+    }
+
+    /**
+     * 테이블 버전이 바뀌었으면 다시 읽기
+     */
+    @Scheduled(initialDelayString = "${game.keyword.catalog-check-interval:60000}",
+            fixedDelayString = "${game.keyword.catalog-check-interval:60000}")
+    public void refreshIfChanged() {
+        try {
+            String version = keywordRepository.findCatalogVersion();
+            if (!version.equals(snapshot.version())) {
+                log.info("Keyword table changed ({} -> {}), reloading catalog", snapshot.version(), version);
+                reload();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Keyword catalog version check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 시 로딩에 실패했거나 테이블이 비어 있으면 첫 사용 때 다시 읽음 (최소 간격을 두고)
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current.size() == 0) {
+            long now = System.currentTimeMillis();
+            if (now - lastEmptyReloadAt >= EMPTY_RELOAD_BACKOFF_MILLIS) {
+                lastEmptyReloadAt = now;
+                reload();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 별칭 테이블에서 뽑되 제외된 제시어면 다시 뽑음
+     * 재시도가 모두 제외에 걸리면 임의 위치부터 순차 탐색하고, 전부 제외되었으면 제외를 무시
+     */
+    private static int sample(Pool pool, BitSet excluded) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] indices = pool.indices();
+
+        for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+            int index = indices[pool.table().sample(random)];
+            if (excluded == null || !excluded.get(index)) {
+                return index;
+            }
+        }
+
+        int start = random.nextInt(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[(start + i) % indices.length];
+            if (!excluded.get(index)) {
+                return index;
+            }
+        }
+        return indices[pool.table().sample(random)];
+    }
+
+    /**
+     * 제시어별 들킨 비율 가중치 (keyword_stats의 사용 횟수 대비 들킨 횟수, 기록이 없으면 1.0)
+     */
+    private double[] catchWeights(List<Keyword> keywords) {
+        double[] weights = new double[keywords.size()];
+        Arrays.fill(weights, 1.0);
+        try {
+            Map<UUID, KeywordStats> stats = new HashMap<>();
+            keywordStatsRepository.findAll().forEach(row -> stats.put(row.getKeywordId(), row));
+
+            for (int i = 0; i < keywords.size(); i++) {
+                KeywordStats row = stats.get(keywords.get(i).getKeywordId());
+                if (row == null) {
+                    continue;
+                }
+                double catchRate = Math.min(1.0, (row.getCaught() + 1.0) / (row.getUsed() + 2.0));
+                weights[i] = 1.5 - catchRate;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to load keyword catch statistics, using uniform weights: {}", e.getMessage());
+        }
+        return weights;
+    }
+
+    /**
+     * 선택 후보 (카탈로그 인덱스와 같은 순서의 별칭 테이블)
+     */
+    private record Pool(int[] indices, AliasTable table) {
+
+        static Pool of(int[] indices, IntToDoubleFunction weight) {
+            double[] weights = new double[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                weights[i] = weight.applyAsDouble(indices[i]);
+            }
+            return new Pool(indices, AliasTable.of(weights));
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (배열은 생성 후 수정하지 않음)
+     */
+    private record Snapshot(
+            long generation,
+            String version,
+            Map<Genre, Map<Difficulty, Pool>> byDifficulty,
+            Map<Genre, Pool> byGenre,
+            List<Keyword> all,
+            Map<UUID, Integer> indexById,
+            KeywordMatcher matcher
+    ) {
+        static final Snapshot EMPTY = new Snapshot(0, "", Map.of(), Map.of(), List.of(), Map.of(),
+                KeywordMatcher.of(List.of()));
+
+        int size() {
+            return all.size();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.doublecross.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 세션에서 이미 배정한 제시어 (다시 배정하지 않음)
+ * 카탈로그 인덱스 비트셋으로 검사하고, 카탈로그가 다시 읽히면(세대가 바뀌면) 제시어 ID 목록으로 비트셋을 다시 만듦
+ */
+public final class KeywordExclusion {
+
+    private final List<UUID> keywordIds = new ArrayList<>();
+    private BitSet bits = new BitSet();
+    private long generation = -1;
+
+    public synchronized void add(UUID keywordId) {
+        if (keywordId != null && !keywordIds.contains(keywordId)) {
+            keywordIds.add(keywordId);
+            generation = -1;
+        }
+    }
+
+    /**
+     * 해당 카탈로그 세대의 인덱스 비트셋 (인덱스가 없는 제시어는 제외)
+     */
+    synchronized BitSet bits(long catalogGeneration, ToIntFunction<UUID> indexOf) {
+        if (catalogGeneration != generation) {
+            bits = new BitSet();
+            for (UUID keywordId : keywordIds) {
+                int index = indexOf.applyAsInt(keywordId);
+                if (index >= 0) {
+                    bits.set(index);
+                }
+            }
+            generation = catalogGeneration;
+        }
+        return bits;
+    }
+}
@@ -1,25 +1,31 @@
 package com.example.doublecross.service;
 
 
+import com.example.doublecross.ai.AiDeadline;
+import com.example.doublecross.ai.AiGateway;
+import com.example.doublecross.ai.AiJsonParser;
+import com.example.doublecross.ai.AiPrompt;
+import com.example.doublecross.ai.AiTaskType;
 import com.example.doublecross.dto.KeywordGuessRequest;
 import com.example.doublecross.dto.KeywordGuessResponse;
+import com.example.doublecross.exception.AiTimeoutException;
+import com.example.doublecross.prompt.PromptCatalog;
 import com.example.doublecross.prompt.PromptTemplates;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordGuesserService {
 
-    private final ChatClient.Builder chatClientBuilder;
-    private final ObjectMapper objectMapper;
+    private final AiGateway aiGateway;
+    private final PromptCatalog promptCatalog;
+    private final AiJsonParser aiJsonParser;
 
     /**
      * 상대의 제시어를 추측합니다.
@@ -28,30 +34,45 @@ public class KeywordGuesserService {
      * @return 추측 결과
      */
     public KeywordGuessResponse guessKeyword(KeywordGuessRequest request) {
-        ChatClient chatClient = chatClientBuilder.build();
+        return guessKeyword(request, null);
+    }
 
+    /**
+     * 데드라인 안에서 상대의 제시어를 추측합니다.
+     * 마감 시각까지 응답이 없으면 추측 기회를 쓰지 않도록 PASS로 처리합니다.
+     *
+     * @param request 추측 요청
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @return 추측 결과
+     */
+    public KeywordGuessResponse guessKeyword(KeywordGuessRequest request, AiDeadline deadline) {
         // 사용자 프롬프트 구성
-        String userPrompt = PromptTemplates.KEYWORD_GUESSER_USER_PROMPT
-                .replace("{myGenre}", request.myGenre())
-                .replace("{opponentGenreGuess}",
-                        request.opponentGenreGuess() != null ? request.opponentGenreGuess() : "모름")
-                .replace("{guessesRemaining}", String.valueOf(request.guessesRemaining()))
-                .replace("{currentTurn}", String.valueOf(request.currentTurn()))
-                .replace("{maxTurns}", String.valueOf(request.maxTurns()))
-                .replace("{fullStory}", request.getStoryAsString())
-                .replace("{opponentStory}", request.getOpponentStoryOnly());
+        // 프롬프트 캐시가 적용되도록 공통 규칙 → 세션 정보 → 턴 정보 순서로 배치
+        String sessionContext = promptCatalog.keywordGuesserSession().render(Map.of("myGenre", request.myGenre()));
+        String userPrompt = promptCatalog.keywordGuesserUser().render(Map.of(
+                "opponentGenreGuess", request.opponentGenreGuess() != null ? request.opponentGenreGuess() : "모름",
+                "guessesRemaining", String.valueOf(request.guessesRemaining()),
+                "currentTurn", String.valueOf(request.currentTurn()),
+                "maxTurns", String.valueOf(request.maxTurns()),
+                "fullStory", request.getStoryAsString(),
+                "opponentStory", request.getOpponentStoryOnly()));
 
         log.debug("User Prompt: {}", userPrompt);
 
-        String response = chatClient.prompt()
-                .system(PromptTemplates.KEYWORD_GUESSER_SYSTEM_PROMPT)
-                .user(userPrompt)
-                .call()
-                .content();
+        String response;
+        try {
+            AiPrompt prompt = new AiPrompt(PromptTemplates.KEYWORD_GUESSER_SYSTEM_PROMPT, sessionContext, userPrompt);
+            response = deadline != null
+                    ? aiGateway.call(AiTaskType.KEYWORD_GUESSER, prompt, deadline)
+                    : aiGateway.call(AiTaskType.KEYWORD_GUESSER, prompt);
+        } catch (AiTimeoutException e) {
+            log.warn("Keyword guess timed out, passing: {}", e.getMessage());
+            return new KeywordGuessResponse("PASS", null, 0, List.of(), "응답 시간 초과");
+        }
 
         log.debug("AI Response: {}", response);
 
-        return parseResponse(response);
+        return aiJsonParser.parse(AiTaskType.KEYWORD_GUESSER, response, KeywordGuessResponse.class);
     }
 
     /**
@@ -75,44 +96,5 @@ public class KeywordGuesserService {
         );
         return guessKeyword(request);
     }
-
-    /**
-     * AI 응답을 KeywordGuessResponse 객체로 파싱
-     */
-    private KeywordGuessResponse parseResponse(String response) {
-        try {
-            String json = extractJson(response);
-            return objectMapper.readValue(json, KeywordGuessResponse.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse AI response: {}", response, e);
-            throw new RuntimeException("AI 응답 파싱 실패", e);
-        }
-    }
-
-    /**
-     * 응답에서 JSON 부분만 추출
-     */
-    private String extractJson(String response) {
-        // ```json 으로 시작하는 경우 처리
-        if (response.contains("```json")) {
-            int start = response.indexOf("```json") + 7;
-            int end = response.lastIndexOf("```");
-            if (end > start) {
-                return response.substring(start, end).trim();
-            }
-        }
-
-        // ``` 으로 시작하는 경우 처리
-        if (response.contains("```")) {
-            int start = response.indexOf("```") + 3;
-            int end = response.lastIndexOf("```");
-            if (end > start) {
-                return response.substring(start, end).trim();
-            }
-        }
-
-        // 그냥 JSON인 경우
-        return response.trim();
-    }
 }
 
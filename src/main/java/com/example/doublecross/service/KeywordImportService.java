@@ -0,0 +1,224 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.enums.Difficulty;
+import com.example.doublecross.domain.enums.Genre;
+import com.example.doublecross.dto.response.KeywordImportResponse;
+import com.example.doublecross.exception.GameException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 제시어 일괄 등록 (PostgreSQL COPY)
+ *
+ * 업로드를 먼저 임시 파일로 받아 두고(최대 max-size, 트랜잭션 밖), COPY로 임시 스테이징 테이블에 흘려 넣은 뒤,
+ * SQL 한 번으로 검증/중복 제거(파일 안 중복 + 기존 단어)하여 keyword 테이블에 합침
+ * 느린 업로드가 DB 커넥션을 붙잡지 않도록 하고, 트랜잭션 안의 쿼리는 statement-timeout으로 제한
+ * 커밋 후 제시어 카탈로그를 다시 읽음
+ *
+ * 파일 형식: word, target_genre, difficulty 3열 (첫 줄은 헤더, difficulty가 비면 NORMAL)
+ */
+@Slf4j
+@Service
+public class KeywordImportService {
+
+    public enum Format { CSV, TSV }
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE keyword_import (
+                word TEXT,
+                target_genre TEXT,
+                difficulty TEXT
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING =
+            "COPY keyword_import (word, target_genre, difficulty) FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER %s)";
+
+    // 유효한 행만 정규화 (앞뒤 공백 제거, 대문자 enum 값)
+    private static final String CREATE_VALID = """
+            CREATE TEMP TABLE keyword_import_valid ON COMMIT DROP AS
+            SELECT btrim(word) AS word,
+                   upper(btrim(target_genre)) AS target_genre,
+                   COALESCE(upper(NULLIF(btrim(difficulty), '')), 'NORMAL') AS difficulty
+            FROM keyword_import
+            WHERE NULLIF(btrim(word), '') IS NOT NULL
+              AND char_length(btrim(word)) <= 50
+              AND upper(btrim(target_genre)) = ANY (?)
+              AND COALESCE(upper(NULLIF(btrim(difficulty), '')), 'NORMAL') = ANY (?)
+            """;
+
+    // 파일 안 중복은 첫 행만, 이미 있는 단어는 제외 (existsByWord와 같은 기준)
+    private static final String MERGE = """
+            INSERT INTO keyword (keyword_id, word, target_genre, difficulty, updated_at)
+            SELECT gen_random_uuid(), s.word, s.target_genre, s.difficulty, now()
+            FROM (SELECT DISTINCT ON (word) word, target_genre, difficulty FROM keyword_import_valid) s
+            WHERE NOT EXISTS (SELECT 1 FROM keyword k WHERE k.word = s.word)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeywordCatalog keywordCatalog;
+    private final MeterRegistry meterRegistry;
+    private final DataSize maxSize;
+    private final Duration statementTimeout;
+
+    public KeywordImportService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                KeywordCatalog keywordCatalog,
+                                MeterRegistry meterRegistry,
+                                @Value("${game.keyword.import.max-size:20MB}") DataSize maxSize,
+                                @Value("${game.keyword.import.statement-timeout:60s}") Duration statementTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.keywordCatalog = keywordCatalog;
+        this.meterRegistry = meterRegistry;
+        this.maxSize = maxSize;
+        this.statementTimeout = statementTimeout;
+    }
+
+    /**
+     * 업로드 스트림을 keyword 테이블에 등록
+     *
+     * @param input UTF-8 CSV/TSV 스트림
+     */
+    public KeywordImportResponse importKeywords(InputStream input, Format format) {
+        long startNanos = System.nanoTime();
+
+        Path spool = spool(input);
+        try {
+            return importSpooled(spool, format, startNanos);
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Failed to delete keyword import spool {}: {}", spool, e.getMessage());
+            }
+        }
+    }
+
+    private KeywordImportResponse importSpooled(Path spool, Format format, long startNanos) {
+        long[] counts = transactionTemplate.execute(status ->
+                jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SET LOCAL statement_timeout = " + statementTimeout.toMillis());
+                        statement.execute(CREATE_STAGING);
+                    }
+
+                    long received;
+                    try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                        String delimiter = format == Format.TSV ? "E'\\t'" : "','";
+                        received = connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyIn(COPY_STAGING.formatted(delimiter), reader);
+                    } catch (IOException e) {
+                        throw new GameException("제시어 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+                    } catch (SQLException e) {
+                        // 열 수가 맞지 않는 등 COPY가 거부한 파일 (트랜잭션 전체 롤백)
+                        throw new GameException("제시어 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+                    }
+
+                    long valid;
+                    try (PreparedStatement statement = connection.prepareStatement(CREATE_VALID)) {
+                        statement.setArray(1, textArray(connection, Genre.values()));
+                        statement.setArray(2, textArray(connection, Difficulty.values()));
+                        valid = statement.executeUpdate();
+                    }
+
+                    long inserted;
+                    try (Statement statement = connection.createStatement()) {
+                        inserted = statement.executeUpdate(MERGE);
+                    }
+                    return new long[]{received, valid, inserted};
+                }));
+
+        long received = counts[0];
+        long invalid = received - counts[1];
+        long inserted = counts[2];
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        double rowsPerSecond = received * 1000.0 / elapsedMillis;
+
+        Counter.builder("keyword.import.rows")
+                .tag("result", "inserted")
+                .register(meterRegistry)
+                .increment(inserted);
+
+        log.info("Keyword import: {} rows, {} inserted, {} invalid in {}ms ({} rows/s)",
+                received, inserted, invalid, elapsedMillis, Math.round(rowsPerSecond));
+
+        // 커밋된 제시어로 카탈로그 교체
+        if (inserted > 0) {
+            keywordCatalog.reload();
+        }
+
+        return KeywordImportResponse.builder()
+                .received(received)
+                .inserted(inserted)
+                .duplicates(received - invalid - inserted)
+                .invalid(invalid)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * 업로드 본문을 임시 파일로 받음 (max-size를 넘으면 중단)
+     */
+    private Path spool(InputStream input) {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("keyword-import-", ".csv");
+            long limit = maxSize.toBytes();
+            long total = 0;
+            byte[] buffer = new byte[8192];
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    total += read;
+                    if (total > limit) {
+                        throw new GameException("제시어 파일이 너무 큽니다 (최대 " + maxSize.toMegabytes() + "MB)");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return spool;
+        } catch (IOException | GameException e) {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException ignored) {
+                    // 임시 파일은 OS가 정리
+                }
+            }
+            if (e instanceof GameException gameException) {
+                throw gameException;
+            }
+            throw new GameException("제시어 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static Array textArray(Connection connection, Enum<?>[] values) throws SQLException {
+        return connection.createArrayOf("text", Arrays.stream(values).map(Enum::name).toArray());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.entity.Keyword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 제시어 매칭 오토마톤 (Aho-Corasick)
+ * 카탈로그 전체 제시어로 한 번 만들어 두고, 문장을 한 번 훑어 등장한 모든 제시어와 위치를 찾음 (제시어 수와 무관하게 O(문장 길이))
+ *
+ * 경계 규칙 (제시어 사용 인정 기준과 같음: 조사 결합, 합성어 모두 허용)
+ * - WORD: 단어 그대로 ("좀비")
+ * - PARTICLE: 단어 + 조사 ("좀비가", "좀비처럼")
+ * - COMPOUND: 다른 글자와 붙은 합성어 ("좀비영화", "아기좀비")
+ */
+public final class KeywordMatcher {
+
+    /** 제시어 뒤에 붙어도 단어 그대로 쓴 것으로 보는 조사 (긴 것부터 검사) */
+    static final List<String> PARTICLES = List.of(
+            "에서", "으로", "처럼", "까지", "부터", "에게", "한테", "보다", "이랑",
+            "이", "가", "을", "를", "은", "는", "에", "의", "와", "과", "도", "로", "만", "랑");
+
+    private static final Set<String> PARTICLE_SET = Set.copyOf(PARTICLES);
+
+    public enum Form { WORD, PARTICLE, COMPOUND }
+
+    /**
+     * 문장에서 찾은 제시어
+     *
+     * @param keyword 제시어 (같은 단어가 여러 장르에 있으면 장르별로 각각 보고)
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (제외)
+     * @param form 앞뒤 글자와의 결합 형태
+     */
+    public record Hit(Keyword keyword, int start, int end, Form form) {
+        public String word() {
+            return keyword.getWord();
+        }
+    }
+
+    // 상태별 전이 (labels[s]는 정렬된 글자, targets[s]는 같은 위치의 다음 상태)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final Keyword[][] outputs;
+    private final Set<String> words;
+
+    private KeywordMatcher(char[][] labels, int[][] targets, int[] fail, Keyword[][] outputs, Set<String> words) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.words = words;
+    }
+
+    /**
+     * 제시어 목록으로 오토마톤 생성
+     */
+    public static KeywordMatcher of(Collection<Keyword> keywords) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Keyword>> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+        Set<String> words = new HashSet<>();
+
+        // 1. 트라이
+        for (Keyword keyword : keywords) {
+            String word = keyword.getWord();
+            if (word == null || word.isBlank()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = children.get(state).get(word.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(word.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            outputs.get(state).add(keyword);
+            words.add(word);
+        }
+
+        // 2. 실패 링크 (BFS, 접미사 상태의 출력도 합침)
+        int[] fail = new int[children.size()];
+        Queue<Integer> queue = new ArrayDeque<>(children.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                int next = edge.getValue();
+                int f = fail[state];
+                while (f != 0 && !children.get(f).containsKey(edge.getKey())) {
+                    f = fail[f];
+                }
+                Integer target = children.get(f).get(edge.getKey());
+                fail[next] = target != null && target != next ? target : 0;
+                outputs.get(next).addAll(outputs.get(fail[next]));
+                queue.add(next);
+            }
+        }
+
+        // 3. 배열로 고정
+        int size = children.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        Keyword[][] frozen = new Keyword[size][];
+        for (int s = 0; s < size; s++) {
+            TreeMap<Character, Integer> edges = children.get(s);
+            labels[s] = new char[edges.size()];
+            targets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[s][i] = edge.getKey();
+                targets[s][i] = edge.getValue();
+                i++;
+            }
+            frozen[s] = outputs.get(s).toArray(Keyword[]::new);
+        }
+        return new KeywordMatcher(labels, targets, fail, frozen, Set.copyOf(words));
+    }
+
+    /**
+     * 문장에 등장한 모든 제시어 (시작 위치가 겹치는 짧은 제시어도 모두 포함, 끝 위치 순)
+     */
+    public List<Hit> scan(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = Math.max(next, 0);
+
+            for (Keyword keyword : outputs[state]) {
+                int end = i + 1;
+                int start = end - keyword.getWord().length();
+                hits.add(new Hit(keyword, start, end, form(text, start, end)));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 문장에 해당 단어가 있는지 (카탈로그에 없는 단어는 단순 포함 여부로 판단)
+     */
+    public boolean contains(String text, String word) {
+        if (!words.contains(word)) {
+            return text.contains(word);
+        }
+        return scan(text).stream().anyMatch(hit -> hit.word().equals(word));
+    }
+
+    /**
+     * 단어 끝의 조사 제거 (조사를 떼고 2글자 이상 남을 때만)
+     */
+    public static String stripParticle(String token) {
+        for (String particle : PARTICLES) {
+            if (token.length() > particle.length() + 1 && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    private static Form form(String text, int start, int end) {
+        if (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) {
+            return Form.COMPOUND;
+        }
+        int tail = end;
+        while (tail < text.length() && Character.isLetterOrDigit(text.charAt(tail))) {
+            tail++;
+        }
+        if (tail == end) {
+            return Form.WORD;
+        }
+        return PARTICLE_SET.contains(text.substring(end, tail)) ? Form.PARTICLE : Form.COMPOUND;
+    }
+}
@@ -5,22 +5,29 @@ import com.example.doublecross.domain.entity.Participant;
 import com.example.doublecross.domain.enums.Difficulty;
 import com.example.doublecross.domain.enums.Genre;
 import com.example.doublecross.domain.enums.KeywordStatus;
-import com.example.doublecross.domain.repository.KeywordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Random;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
 
-    private final KeywordRepository keywordRepository;
-    private final Random random = new Random();
+    private final KeywordCatalog keywordCatalog;
+
+    // 세션별 이미 배정한 제시어 (재시작 후에는 현재 제시어부터 다시 쌓음)
+    private final Cache<UUID, KeywordExclusion> exclusions = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(2))
+            .build();
 
     /**
      * 텍스트에 제시어가 포함되어 있는지 확인
@@ -31,16 +38,27 @@ public class KeywordService {
         if (text == null || keyword == null) {
             return false;
         }
-        return text.contains(keyword);
+        return keywordCatalog.matcher().contains(text, keyword);
+    }
+
+    /**
+     * 텍스트에 등장한 모든 제시어와 위치 (전체 카탈로그 기준, 한 번 훑어서 찾음)
+     */
+    public List<KeywordMatcher.Hit> findKeywords(String text) {
+        return keywordCatalog.matcher().scan(text);
     }
 
     /**
      * 참가자에게 새로운 제시어 배정
-     * 상대방 장르에서 랜덤으로 선택
+     * 상대방 장르에서 랜덤으로 선택 (이 게임에서 이미 배정한 제시어는 제외)
      */
     @Transactional
     public Keyword assignNewKeyword(Participant participant, Genre opponentGenre, Difficulty difficulty) {
-        Keyword keyword = findRandomKeyword(opponentGenre, difficulty);
+        UUID sessionId = participant.getSession().getSessionId();
+        if (participant.getCurrentKeyword() != null) {
+            exclusion(sessionId).add(participant.getCurrentKeyword().getKeywordId());
+        }
+        Keyword keyword = pickKeyword(sessionId, opponentGenre, difficulty);
 
         participant.setCurrentKeyword(keyword);
         participant.setKeywordStatus(KeywordStatus.PENDING);
@@ -52,34 +70,32 @@ public class KeywordService {
     }
 
     /**
-     * 특정 장르와 난이도에서 랜덤 제시어 조회
+     * 게임에서 아직 배정하지 않은 제시어 선택 후 배정 기록
      */
-    public Keyword findRandomKeyword(Genre genre, Difficulty difficulty) {
-        List<Keyword> keywords = keywordRepository.findByTargetGenreAndDifficulty(genre, difficulty);
-
-        if (keywords.isEmpty()) {
-            // 해당 난이도에 제시어가 없으면 장르만으로 조회
-            keywords = keywordRepository.findByTargetGenre(genre);
-        }
+    public Keyword pickKeyword(UUID sessionId, Genre genre, Difficulty difficulty) {
+        KeywordExclusion exclusion = exclusion(sessionId);
+        Keyword keyword = keywordCatalog.pick(genre, difficulty, exclusion);
+        exclusion.add(keyword.getKeywordId());
+        return keyword;
+    }
 
-        if (keywords.isEmpty()) {
-            throw new IllegalStateException("No keywords found for genre: " + genre);
-        }
+    private KeywordExclusion exclusion(UUID sessionId) {
+        return exclusions.get(sessionId, id -> new KeywordExclusion());
+    }
 
-        return keywords.get(random.nextInt(keywords.size()));
+    /**
+     * 특정 장르와 난이도에서 랜덤 제시어 조회 (메모리 카탈로그, DB 조회 없음)
+     * 요청한 난이도 위주로, 다른 난이도는 낮은 가중치로 선택
+     */
+    public Keyword findRandomKeyword(Genre genre, Difficulty difficulty) {
+        return keywordCatalog.pick(genre, difficulty);
     }
 
     /**
-     * 특정 장르에서 랜덤 제시어 조회
+     * 특정 장르에서 랜덤 제시어 조회 (메모리 카탈로그, DB 조회 없음)
      */
     public Keyword findRandomKeyword(Genre genre) {
-        List<Keyword> keywords = keywordRepository.findByTargetGenre(genre);
-
-        if (keywords.isEmpty()) {
-            throw new IllegalStateException("No keywords found for genre: " + genre);
-        }
-
-        return keywords.get(random.nextInt(keywords.size()));
+        return keywordCatalog.pick(genre);
     }
 
     /**
@@ -122,13 +138,13 @@ public class KeywordService {
      * 모든 제시어 조회
      */
     public List<Keyword> findAllKeywords() {
-        return keywordRepository.findAll();
+        return keywordCatalog.all();
     }
 
     /**
      * 특정 장르의 모든 제시어 조회
      */
     public List<Keyword> findKeywordsByGenre(Genre genre) {
-        return keywordRepository.findByTargetGenre(genre);
+        return keywordCatalog.byGenre(genre);
     }
 }
@@ -0,0 +1,203 @@
+package com.example.doublecross.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 제시어 플레이 통계 집계와 난이도 자동 보정
+ *
+ * 집계: 워터마크(keyword_stats_watermark) 이후에 생긴 기록만 읽어 keyword_stats 카운터에 더함 (전체 테이블을 다시 세지 않음)
+ * - caught: 정답 추측 (guess_attempt.is_correct)
+ * - used: 스토리에 제시어가 인정된 문장 (story_entry.keyword_used_id)
+ * - digested: 종료된 게임에서 끝까지 들키지 않고 사용한 제시어 (participant.keyword_status)
+ * - assigned: 배정 이력은 따로 남지 않으므로 들킨 제시어 + 게임 종료 시점의 제시어로 계산
+ * 아직 커밋되지 않은 기록을 건너뛰지 않도록 현재 시각보다 lag만큼 앞까지만 집계
+ *
+ * 보정: 표본이 min-samples 이상인 제시어를 장르별 성공률((digested+1)/(assigned+2)) 백분위로 나눠
+ * 상위 1/3은 EASY, 중간은 NORMAL, 하위 1/3은 HARD로 바꾸고, 바뀐 제시어가 있으면 카탈로그를 다시 읽음
+ * 집계로 통계가 바뀌면 카탈로그의 들킨 비율 가중치도 다시 계산
+ */
+@Slf4j
+@Service
+public class KeywordStatsService {
+
+    private static final String INIT_WATERMARK = """
+            INSERT INTO keyword_stats_watermark (id, aggregated_to) VALUES (1, to_timestamp(0))
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String LOCK_WATERMARK =
+            "SELECT aggregated_to FROM keyword_stats_watermark WHERE id = 1 FOR UPDATE";
+
+    private static final String ADVANCE_WATERMARK =
+            "UPDATE keyword_stats_watermark SET aggregated_to = ? WHERE id = 1";
+
+    // 추측한 쪽의 장르가 상대 제시어의 장르 (GameService.createParticipant)
+    // 들킨 채로 끝난 제시어는 여기서 세므로 MERGE_FINISHED에서는 제외
+    private static final String MERGE_CAUGHT = """
+            INSERT INTO keyword_stats (keyword_id, assigned, used, caught, digested, updated_at)
+            SELECT k.keyword_id, COUNT(*), 0, COUNT(*), 0, now()
+            FROM guess_attempt ga
+            JOIN participant p ON p.participant_id = ga.participant_id
+            JOIN keyword k ON k.word = ga.guessed_word AND k.target_genre = p.secret_genre
+            WHERE ga.is_correct AND ga.created_at >= ? AND ga.created_at < ?
+            GROUP BY k.keyword_id
+            ON CONFLICT (keyword_id) DO UPDATE
+            SET assigned = keyword_stats.assigned + EXCLUDED.assigned,
+                caught = keyword_stats.caught + EXCLUDED.caught,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String MERGE_USED = """
+            INSERT INTO keyword_stats (keyword_id, assigned, used, caught, digested, updated_at)
+            SELECT se.keyword_used_id, 0, COUNT(*), 0, 0, now()
+            FROM story_entry se
+            WHERE se.keyword_used_id IS NOT NULL AND se.created_at >= ? AND se.created_at < ?
+            GROUP BY se.keyword_used_id
+            ON CONFLICT (keyword_id) DO UPDATE
+            SET used = keyword_stats.used + EXCLUDED.used,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String MERGE_FINISHED = """
+            INSERT INTO keyword_stats (keyword_id, assigned, used, caught, digested, updated_at)
+            SELECT p.current_keyword_id, COUNT(*), 0, 0,
+                   COUNT(*) FILTER (WHERE p.keyword_status = 'DIGESTED'), now()
+            FROM game_session gs
+            JOIN participant p ON p.session_id = gs.session_id
+            WHERE gs.status = 'FINISHED' AND gs.finished_at >= ? AND gs.finished_at < ?
+              AND p.current_keyword_id IS NOT NULL
+              AND p.keyword_status <> 'CAUGHT'
+            GROUP BY p.current_keyword_id
+            ON CONFLICT (keyword_id) DO UPDATE
+            SET assigned = keyword_stats.assigned + EXCLUDED.assigned,
+                digested = keyword_stats.digested + EXCLUDED.digested,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // 성공률이 높을수록(잘 숨겨지는 제시어) 쉬움, 바뀐 행만 갱신
+    private static final String CALIBRATE = """
+            UPDATE keyword k
+            SET difficulty = ranked.difficulty, updated_at = now()
+            FROM (
+                SELECT keyword_id,
+                       CASE WHEN pr < 1.0 / 3 THEN 'EASY'
+                            WHEN pr < 2.0 / 3 THEN 'NORMAL'
+                            ELSE 'HARD' END AS difficulty
+                FROM (
+                    SELECT k2.keyword_id,
+                           PERCENT_RANK() OVER (PARTITION BY k2.target_genre
+                                   ORDER BY (s.digested + 1.0) / (s.assigned + 2.0) DESC) AS pr
+                    FROM keyword_stats s
+                    JOIN keyword k2 ON k2.keyword_id = s.keyword_id
+                    WHERE s.assigned >= ?
+                ) percentiles
+            ) ranked
+            WHERE k.keyword_id = ranked.keyword_id AND k.difficulty <> ranked.difficulty
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeywordCatalog keywordCatalog;
+    private final MeterRegistry meterRegistry;
+    private final Duration lag;
+    private final int minSamples;
+
+    public KeywordStatsService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               KeywordCatalog keywordCatalog,
+                               MeterRegistry meterRegistry,
+                               @Value("${game.keyword.stats.lag:60s}") Duration lag,
+                               @Value("${game.keyword.stats.min-samples:20}") int minSamples) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.keywordCatalog = keywordCatalog;
+        this.meterRegistry = meterRegistry;
+        this.lag = lag;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * 워터마크 이후의 새 기록을 keyword_stats에 더하고 워터마크를 옮김
+     * 워터마크 행을 잠그므로 여러 인스턴스가 동시에 돌아도 같은 구간을 두 번 세지 않음
+     *
+     * @return 갱신된 통계 행 수
+     */
+    public int aggregate() {
+        Integer merged = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(INIT_WATERMARK);
+            Timestamp from = jdbcTemplate.queryForObject(LOCK_WATERMARK, Timestamp.class);
+            Timestamp to = Timestamp.from(Instant.now().minus(lag));
+            if (from == null || !to.after(from)) {
+                return 0;
+            }
+
+            int rows = jdbcTemplate.update(MERGE_CAUGHT, from, to)
+                    + jdbcTemplate.update(MERGE_USED, from, to)
+                    + jdbcTemplate.update(MERGE_FINISHED, from, to);
+            jdbcTemplate.update(ADVANCE_WATERMARK, to);
+            return rows;
+        });
+
+        Counter.builder("keyword.stats.merged")
+                .register(meterRegistry)
+                .increment(merged);
+        log.debug("Keyword stats aggregated: {} rows merged", merged);
+
+        // 새 통계를 제시어 선택 가중치에 반영
+        if (merged > 0) {
+            keywordCatalog.reloadWeights();
+        }
+        return merged;
+    }
+
+    /**
+     * 통계로 제시어 난이도를 다시 나눔
+     *
+     * @return 난이도가 바뀐 제시어 수
+     */
+    public int calibrate() {
+        Integer changed = transactionTemplate.execute(status -> jdbcTemplate.update(CALIBRATE, minSamples));
+
+        Counter.builder("keyword.stats.recalibrated")
+                .register(meterRegistry)
+                .increment(changed);
+        if (changed > 0) {
+            log.info("Keyword difficulty recalibrated: {} keywords changed", changed);
+            keywordCatalog.reload();
+        }
+        return changed;
+    }
+
+    @Scheduled(initialDelayString = "${game.keyword.stats.aggregate-interval:60000}",
+            fixedDelayString = "${game.keyword.stats.aggregate-interval:60000}")
+    public void scheduledAggregate() {
+        try {
+            aggregate();
+        } catch (DataAccessException e) {
+            log.warn("Keyword stats aggregation failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${game.keyword.stats.calibrate-interval:3600000}",
+            fixedDelayString = "${game.keyword.stats.calibrate-interval:3600000}")
+    public void scheduledCalibrate() {
+        try {
+            aggregate();
+            calibrate();
+        } catch (DataAccessException e) {
+            log.warn("Keyword difficulty calibration failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.domain.enums.GameStatus;
+import com.example.doublecross.domain.enums.Genre;
+import com.example.doublecross.domain.repository.StoryEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * AI 제시어 추측 전 로컬 사전 필터
+ * 상대 제시어는 AI 장르(target_genre)에서 배정되므로, 상대 문장에서 AI 장르에 어울리는 단어를 찾음
+ * - 제시어 사전: 카탈로그 매칭 오토마톤으로 찾은 제시어 중 target_genre가 AI 장르인 단어가 있으면 최고점
+ * - 장르별 단어 빈도: 종료된 게임에서 AI 장르 작성자가 전체 대비 유난히 자주 쓴 단어일수록 높은 점수
+ * 기준 점수를 넘는 단어가 없으면 LLM 추측을 호출하지 않음
+ * 단어 빈도 인덱스는 백그라운드에서 주기적으로 다시 만들어 교체 (추측 판단 중에는 DB 조회 없음)
+ */
+@Slf4j
+@Component
+public class KeywordSuspicionScorer {
+
+    private static final int TERM_SAMPLE_SIZE = 5_000;
+    private static final int MIN_TERM_COUNT = 3;
+    private static final double SMOOTHING = 1.0;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{IsHangul}\\p{IsAlphabetic}\\p{IsDigit}]+");
+
+    private final KeywordCatalog keywordCatalog;
+    private final StoryEntryRepository storyEntryRepository;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.Guess guess;
+
+    private volatile Index index = Index.EMPTY;
+
+    private final AtomicLong invoked = new AtomicLong();
+    private final AtomicLong guessed = new AtomicLong();
+    private final AtomicLong correct = new AtomicLong();
+
+    public KeywordSuspicionScorer(KeywordCatalog keywordCatalog,
+                                  StoryEntryRepository storyEntryRepository,
+                                  MeterRegistry meterRegistry,
+                                  AiProperties aiProperties) {
+        this.keywordCatalog = keywordCatalog;
+        this.storyEntryRepository = storyEntryRepository;
+        this.meterRegistry = meterRegistry;
+        this.guess = aiProperties.guess();
+
+        Gauge.builder("ai.guess.prefilter.precision", this, scorer -> scorer.ratio(scorer.correct))
+                .description("Share of LLM guess calls let through by the pre-filter that ended in a correct guess")
+                .register(meterRegistry);
+        Gauge.builder("ai.guess.prefilter.guess-rate", this, scorer -> scorer.ratio(scorer.guessed))
+                .description("Share of LLM guess calls let through by the pre-filter that ended in a GUESS")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${game.ai.guess.prefilter-refresh-interval:1800000}",
+            fixedDelayString = "${game.ai.guess.prefilter-refresh-interval:1800000}")
+    public void refresh() {
+        if (!guess.prefilter()) {
+            return;
+        }
+        try {
+            index = load();
+        } catch (DataAccessException e) {
+            log.warn("Failed to load keyword suspicion index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가장 의심스러운 단어
+     *
+     * @param word 단어 (문장에 등장한 형태에서 조사 제거)
+     * @param score 의심 점수 (0-1)
+     */
+    public record Suspect(String word, double score) {}
+
+    /**
+     * 사전 필터를 통과한 LLM 추측의 결과
+     */
+    public enum Outcome {
+        /** 추측하지 않음 (PASS 또는 확신도 미달) */
+        PASS,
+        /** 정답 추측 */
+        CORRECT,
+        /** 오답 추측 */
+        WRONG,
+        /** 추측 호출이 실패하거나 시간 안에 끝나지 않음 */
+        FAILED
+    }
+
+    /**
+     * 상대 문장에서 가장 의심스러운 단어 (없으면 null)
+     *
+     * @param aiGenre AI 장르 (상대 제시어의 target_genre)
+     * @param opponentSentences 새로 추가된 상대 문장
+     */
+    public Suspect topSuspect(Genre aiGenre, List<String> opponentSentences) {
+        Index current = index;
+        KeywordMatcher matcher = keywordCatalog.matcher();
+        Suspect top = null;
+
+        for (String sentence : opponentSentences) {
+            for (KeywordMatcher.Hit hit : matcher.scan(sentence)) {
+                if (hit.keyword().getTargetGenre() == aiGenre && hit.word().length() >= 2) {
+                    return new Suspect(hit.word(), 1.0);
+                }
+            }
+            for (String term : terms(sentence)) {
+                double score = current.lift(aiGenre, term);
+                if (top == null || score > top.score()) {
+                    top = new Suspect(term, score);
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * LLM 추측을 호출할지 결정 (사전 필터가 꺼져 있으면 항상 호출)
+     */
+    public boolean shouldInvoke(Genre aiGenre, List<String> opponentSentences) {
+        if (!guess.prefilter()) {
+            return true;
+        }
+
+        Suspect suspect = opponentSentences.isEmpty() ? null : topSuspect(aiGenre, opponentSentences);
+        boolean invoke = suspect != null && suspect.score() >= guess.prefilterThreshold();
+        count("ai.guess.prefilter", "result", invoke ? "invoked" : "skipped");
+        if (invoke) {
+            log.debug("Guess pre-filter passed on '{}' ({})", suspect.word(), suspect.score());
+        }
+        return invoke;
+    }
+
+    /**
+     * 사전 필터를 통과한 LLM 추측의 결과 기록 (실패한 호출도 기록해야 precision이 부풀려지지 않음)
+     */
+    public void recordOutcome(Outcome outcome) {
+        if (!guess.prefilter()) {
+            return;
+        }
+        invoked.incrementAndGet();
+        if (outcome == Outcome.CORRECT || outcome == Outcome.WRONG) {
+            guessed.incrementAndGet();
+        }
+        if (outcome == Outcome.CORRECT) {
+            correct.incrementAndGet();
+        }
+        count("ai.guess.prefilter.outcome", "outcome", outcome.name().toLowerCase());
+    }
+
+    private double ratio(AtomicLong numerator) {
+        long total = invoked.get();
+        return total == 0 ? Double.NaN : (double) numerator.get() / total;
+    }
+
+    private void count(String name, String tag, String value) {
+        Counter.builder(name)
+                .tag(tag, value)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Index load() {
+        Map<Genre, Map<String, Integer>> termCounts = new EnumMap<>(Genre.class);
+        Map<String, Integer> totalCounts = new HashMap<>();
+        for (StoryEntryRepository.GenreContent row : storyEntryRepository.findRecentContentsWithAuthorGenre(
+                GameStatus.FINISHED, PageRequest.of(0, TERM_SAMPLE_SIZE))) {
+            Map<String, Integer> counts = termCounts.computeIfAbsent(row.getGenre(), g -> new HashMap<>());
+            for (String term : terms(row.getContent())) {
+                counts.merge(term, 1, Integer::sum);
+                totalCounts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        Map<Genre, Integer> genreTotals = new EnumMap<>(Genre.class);
+        termCounts.forEach((genre, counts) ->
+                genreTotals.put(genre, counts.values().stream().mapToInt(Integer::intValue).sum()));
+        int allTerms = totalCounts.values().stream().mapToInt(Integer::intValue).sum();
+
+        log.info("Keyword suspicion index loaded: {} terms", totalCounts.size());
+        return new Index(termCounts, totalCounts, genreTotals, allTerms);
+    }
+
+    /**
+     * 문장을 단어로 분리 (조사 제거, 2글자 이상)
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : NON_WORD.split(text)) {
+            String term = KeywordMatcher.stripParticle(token);
+            if (term.length() >= 2) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 장르별 단어 빈도
+     */
+    private record Index(
+            Map<Genre, Map<String, Integer>> termCounts,
+            Map<String, Integer> totalCounts,
+            Map<Genre, Integer> genreTotals,
+            int allTerms
+    ) {
+        static final Index EMPTY = new Index(Map.of(), Map.of(), Map.of(), 0);
+
+        /**
+         * 장르 내 빈도 / 전체 빈도 비율을 0-1로 변환 (드문 단어는 0)
+         */
+        double lift(Genre genre, String term) {
+            int total = totalCounts.getOrDefault(term, 0);
+            if (total < MIN_TERM_COUNT) {
+                return 0;
+            }
+            Map<String, Integer> counts = termCounts.getOrDefault(genre, Map.of());
+            int genreTerms = genreTotals.getOrDefault(genre, 0);
+
+            double inGenre = (counts.getOrDefault(term, 0) + SMOOTHING) / (genreTerms + SMOOTHING * totalCounts.size());
+            double overall = (total + SMOOTHING) / (allTerms + SMOOTHING * totalCounts.size());
+            double ratio = inGenre / overall;
+            return ratio <= 1 ? 0 : 1 - 1 / ratio;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.exception.GameException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 세션별 단일 작성자 실행기 (액터 모델)
+ * - 활성 세션마다 메일박스(큐)를 두고, 한 번에 하나의 명령만 실행
+ * - 스토리 제출, 추측, AI 턴 등 세션 상태를 바꾸는 모든 명령은 이 실행기를 거침
+ * - 메일박스 간에는 독립적이므로 여러 세션은 가상 스레드에서 병렬로 처리
+ * - DB 행 잠금 없이 같은 세션 내 명령 순서와 참가자 read-modify-write 일관성을 보장
+ */
+@Slf4j
+@Component
+public class SessionCommandExecutor {
+
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<UUID, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // 현재 스레드가 처리 중인 세션 (같은 세션 명령을 중첩 호출할 때 교착 방지)
+    private static final ThreadLocal<UUID> CURRENT_SESSION = new ThreadLocal<>();
+
+    public SessionCommandExecutor(@Qualifier("sessionCommandExecutor") ExecutorService executor,
+                                  MeterRegistry meterRegistry) {
+        this.executor = executor;
+        Gauge.builder("game.session.mailboxes", mailboxes, ConcurrentHashMap::size)
+                .description("Sessions with pending or running commands")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 명령 제출 (비동기)
+     */
+    public <T> CompletableFuture<T> submit(UUID sessionId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        // 큐 추가와 메일박스 제거가 같은 키에 대해 원자적으로 일어나도록 compute 사용
+        Mailbox mailbox = mailboxes.compute(sessionId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.queue.add(task);
+            return target;
+        });
+        mailbox.schedule();
+
+        return future;
+    }
+
+    /**
+     * 명령 제출 (비동기, 결과 없음)
+     * 실패는 로그로만 남김
+     */
+    public CompletableFuture<Void> execute(UUID sessionId, Runnable command) {
+        CompletableFuture<Void> future = submit(sessionId, () -> {
+            command.run();
+            return null;
+        });
+        future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Session command failed for {}: {}", sessionId, e.getMessage(), e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 명령 실행 후 결과 대기 (REST 요청 등 동기 호출용)
+     * 예외는 원래 타입 그대로 다시 던짐
+     */
+    public <T> T call(UUID sessionId, Supplier<T> command) {
+        // 이미 같은 세션의 명령 안에서 호출된 경우 바로 실행
+        if (sessionId.equals(CURRENT_SESSION.get())) {
+            return command.get();
+        }
+
+        try {
+            return submit(sessionId, command).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new GameException("세션 명령 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 세션별 메일박스
+     * running 플래그의 CAS로 하나의 소비자만 큐를 비우도록 함
+     */
+    private final class Mailbox {
+
+        private final UUID sessionId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private Mailbox(UUID sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private void schedule() {
+            if (running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            CURRENT_SESSION.set(sessionId);
+            try {
+                Runnable task;
+                while ((task = queue.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                CURRENT_SESSION.remove();
+                running.set(false);
+            }
+
+            // 비어 있으면 메일박스 제거, 그 사이 들어온 명령이 있으면 다시 스케줄
+            mailboxes.computeIfPresent(sessionId, (id, current) ->
+                    current == this && queue.isEmpty() && !running.get() ? null : current);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
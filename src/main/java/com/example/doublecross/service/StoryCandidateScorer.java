@@ -0,0 +1,124 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.enums.Genre;
+import com.example.doublecross.dto.StoryWriteRequest;
+import com.example.doublecross.dto.StoryWriteResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * AI 스토리 후보 점수 계산 (로컬, 모델 호출 없음)
+ * - 제시어 사용 지시를 지켰는지 (가장 큰 비중)
+ * - 한 턴 분량(1-3문장, 적당한 길이)인지
+ * - 장르 이름, "제시어" 같은 게임 정보가 문장에 새어 나오지 않았는지
+ */
+@Component
+@RequiredArgsConstructor
+public class StoryCandidateScorer {
+
+    private static final int KEYWORD_SCORE = 100;
+    private static final int LENGTH_SCORE = 20;
+    private static final int LEAK_PENALTY = 50;
+    private static final int MIN_LENGTH = 15;
+    private static final int MAX_LENGTH = 200;
+    private static final int MAX_SENTENCES = 3;
+
+    private static final Pattern SENTENCE_END = Pattern.compile("[.!?。…]+(\\s|$)");
+    private static final List<String> GAME_WORDS = List.of("장르", "제시어", "블러핑");
+
+    // 장르 한국어 이름 (Genre에 값이 추가되면 여기에도 있어야 함, 없으면 시작 시 실패)
+    private static final Map<Genre, List<String>> GENRE_NAMES = Map.of(
+            Genre.ROMANCE, List.of("로맨스"),
+            Genre.THRILLER, List.of("스릴러"),
+            Genre.COMEDY, List.of("코미디"),
+            Genre.SF, List.of("공상과학", "과학소설"),
+            Genre.FANTASY, List.of("판타지"),
+            Genre.MYSTERY, List.of("미스터리"));
+
+    private static final List<String> LEAK_WORDS = leakWords();
+
+    // 영문 장르 이름은 앞뒤가 영문자가 아닐 때만 ("SF영화"는 잡고 "transfer"는 제외)
+    private static final Pattern LATIN_GENRE = Pattern.compile(
+            Arrays.stream(Genre.values()).map(Genre::name).collect(Collectors.joining("|", "(?<![A-Za-z])(", ")(?![A-Za-z])")),
+            Pattern.CASE_INSENSITIVE);
+
+    private final KeywordService keywordService;
+
+    /**
+     * 가장 점수가 높은 후보 (동점이면 먼저 온 후보)
+     */
+    public StoryWriteResponse best(List<StoryWriteResponse> candidates, StoryWriteRequest request) {
+        return best(candidates, Function.identity(), request);
+    }
+
+    /**
+     * 스토리를 포함한 응답 중 스토리 점수가 가장 높은 후보 (동점이면 먼저 온 후보)
+     *
+     * @param story 후보에서 스토리 부분 추출
+     */
+    public <T> T best(List<T> candidates, Function<T, StoryWriteResponse> story, StoryWriteRequest request) {
+        T best = null;
+        int bestScore = Integer.MIN_VALUE;
+        for (T candidate : candidates) {
+            StoryWriteResponse written = story.apply(candidate);
+            int score = written != null ? score(written, request) : Integer.MIN_VALUE;
+            if (best == null || score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    public int score(StoryWriteResponse candidate, StoryWriteRequest request) {
+        String content = candidate.content();
+        if (content == null || content.isBlank()) {
+            return Integer.MIN_VALUE;
+        }
+
+        int score = 0;
+
+        // 제시어: 써야 하는 턴에는 포함, 아닌 턴에는 미포함이어야 함
+        String keyword = request.aiKeyword();
+        if (keyword != null && !keyword.isBlank()
+                && keywordService.containsKeyword(content, keyword) == request.shouldUseKeyword()) {
+            score += KEYWORD_SCORE;
+        }
+
+        // 분량
+        int length = content.strip().length();
+        int sentences = Math.max(1, (int) SENTENCE_END.matcher(content.strip()).results().count());
+        if (length >= MIN_LENGTH && length <= MAX_LENGTH && sentences <= MAX_SENTENCES) {
+            score += LENGTH_SCORE;
+        }
+
+        // 게임 정보 노출
+        for (String word : LEAK_WORDS) {
+            if (content.contains(word)) {
+                score -= LEAK_PENALTY;
+            }
+        }
+        score -= LEAK_PENALTY * (int) LATIN_GENRE.matcher(content).results().count();
+        return score;
+    }
+
+    private static List<String> leakWords() {
+        List<String> words = new ArrayList<>(GAME_WORDS);
+        for (Genre genre : Genre.values()) {
+            List<String> names = GENRE_NAMES.get(genre);
+            if (names == null) {
+                throw new IllegalStateException("Missing Korean name for genre " + genre);
+            }
+            words.addAll(names);
+        }
+        return List.copyOf(words);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.doublecross.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 세션별 스토리 누적 컨텍스트 (추가만 가능)
+ * 턴이 추가될 때마다 프롬프트용 문자열 뷰에 바로 이어 붙여 두어,
+ * 프롬프트 구성 시 전체 스토리를 다시 조회하거나 포맷하지 않음
+ *
+ * 긴 게임에서는 이전 턴 요약(summary)을 함께 보관하며,
+ * 요약되지 않은 턴부터의 뷰는 항목별 시작 위치로 잘라서 제공
+ */
+public class StoryContext {
+
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。…])\\s+");
+
+    /**
+     * 스토리 항목 (초기 상황은 턴 0, author "SYSTEM")
+     */
+    public record Entry(
+            int turn,
+            String author,
+            String content
+    ) {}
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final StringBuilder writerView = new StringBuilder();
+    private final StringBuilder guesserView = new StringBuilder();
+    private final StringBuilder opponentView = new StringBuilder();
+    private final StringBuilder fullStory = new StringBuilder();
+
+    // 항목별 각 뷰에서의 시작 위치
+    private final List<Integer> writerOffsets = new ArrayList<>();
+    private final List<Integer> guesserOffsets = new ArrayList<>();
+    private final List<Integer> opponentOffsets = new ArrayList<>();
+
+    // 이전 턴 요약 (summarizedThroughTurn 턴까지 포함)
+    private String summary;
+    private int summarizedThroughTurn = -1;
+    private final AtomicBoolean summarizing = new AtomicBoolean();
+
+    // 요약된 턴 중 원문으로 남길 상대 문장 ("Turn n: 문장"), keyScanned개 항목까지 검사함
+    private final List<String> keySentences = new ArrayList<>();
+    private int keyScanned;
+
+    /**
+     * 항목 추가 (이미 반영된 턴이면 무시)
+     *
+     * @return 추가되었으면 true
+     */
+    public synchronized boolean append(Entry entry) {
+        if (!entries.isEmpty() && entry.turn() <= entries.get(entries.size() - 1).turn()) {
+            return false;
+        }
+        entries.add(entry);
+        writerOffsets.add(writerView.length());
+        guesserOffsets.add(guesserView.length());
+        opponentOffsets.add(opponentView.length());
+
+        boolean player = "PLAYER".equals(entry.author());
+
+        writerView.append(player ? "👤" : "🤖").append(" Turn ").append(entry.turn())
+                .append(": ").append(entry.content()).append("\n\n");
+        guesserView.append("Turn ").append(entry.turn()).append(player ? " [상대]: " : " [나]: ")
+                .append(entry.content()).append("\n\n");
+        if (player) {
+            opponentView.append("Turn ").append(entry.turn()).append(": ")
+                    .append(entry.content()).append("\n\n");
+        }
+        fullStory.append(entry.content()).append("\n\n");
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized List<Entry> entries() {
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Story Writer 프롬프트용 스토리 (StoryWriteRequest.getStoryAsString 형식)
+     */
+    public synchronized String writerView() {
+        return entries.isEmpty() ? "(아직 스토리 없음)" : writerView.toString().trim();
+    }
+
+    /**
+     * Keyword Guesser 프롬프트용 전체 스토리 (KeywordGuessRequest.getStoryAsString 형식)
+     */
+    public synchronized String guesserView() {
+        return entries.isEmpty() ? "(아직 스토리 없음)" : guesserView.toString().trim();
+    }
+
+    /**
+     * Keyword Guesser 프롬프트용 상대(PLAYER) 문장 (KeywordGuessRequest.getOpponentStoryOnly 형식)
+     */
+    public synchronized String opponentView() {
+        return entries.isEmpty() ? "(상대 스토리 없음)" : opponentView.toString().trim();
+    }
+
+    /**
+     * 장르 판정용 본문 (작성자/턴 표시 없이 내용만)
+     */
+    public synchronized String fullStory() {
+        return fullStory.toString().trim();
+    }
+
+    /**
+     * 요약되지 않은 첫 항목 위치 (요약이 없으면 0)
+     */
+    public synchronized int unsummarizedStart() {
+        int index = entries.size();
+        while (index > 0 && entries.get(index - 1).turn() > summarizedThroughTurn) {
+            index--;
+        }
+        return index;
+    }
+
+    public synchronized String writerViewFrom(int index) {
+        return writerView.substring(writerOffsets.get(index)).trim();
+    }
+
+    public synchronized String guesserViewFrom(int index) {
+        return guesserView.substring(guesserOffsets.get(index)).trim();
+    }
+
+    public synchronized String opponentViewFrom(int index) {
+        return opponentView.substring(opponentOffsets.get(index)).trim();
+    }
+
+    public synchronized int writerViewLength() {
+        return writerView.length();
+    }
+
+    public synchronized int guesserViewLength() {
+        return guesserView.length();
+    }
+
+    public synchronized int opponentViewLength() {
+        return opponentView.length();
+    }
+
+    public synchronized String summary() {
+        return summary;
+    }
+
+    public synchronized int summarizedThroughTurn() {
+        return summarizedThroughTurn;
+    }
+
+    /**
+     * 요약 갱신 (더 최신 요약일 때만)
+     */
+    public synchronized void updateSummary(String summary, int throughTurn) {
+        if (throughTurn > summarizedThroughTurn) {
+            this.summary = summary;
+            this.summarizedThroughTurn = throughTurn;
+        }
+    }
+
+    /**
+     * 요약 작업 시작 (이미 진행 중이면 false)
+     */
+    public boolean tryStartSummarizing() {
+        return summarizing.compareAndSet(false, true);
+    }
+
+    public void finishSummarizing() {
+        summarizing.set(false);
+    }
+
+    /**
+     * 요약된 구간(index 이전)의 상대 문장 중 원문으로 남길 문장
+     * 이미 검사한 항목은 다시 검사하지 않음
+     */
+    public synchronized List<String> keyOpponentSentences(int index, Predicate<String> isKey) {
+        for (; keyScanned < index; keyScanned++) {
+            Entry entry = entries.get(keyScanned);
+            if (!"PLAYER".equals(entry.author())) {
+                continue;
+            }
+            for (String sentence : SENTENCE_END.split(entry.content().trim())) {
+                if (isKey.test(sentence)) {
+                    keySentences.add("Turn " + entry.turn() + ": " + sentence);
+                }
+            }
+        }
+        return List.copyOf(keySentences);
+    }
+}
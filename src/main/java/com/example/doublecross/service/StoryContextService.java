@@ -0,0 +1,345 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.domain.entity.GameSession;
+import com.example.doublecross.domain.entity.StoryEntry;
+import com.example.doublecross.domain.enums.ParticipantType;
+import com.example.doublecross.domain.repository.StoryEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 세션별 스토리 컨텍스트 관리
+ * - 메모리: 세션별 StoryContext (턴 저장 커밋 후 새 턴만 추가)
+ * - Redis: game:story:{sessionId} 리스트 (여러 서버 간 공유, 다른 서버가 추가한 턴은 길이 비교로 따라잡음)
+ * - 둘 다 없으면 DB에서 한 번 재구성
+ *
+ * 프롬프트 길이 제한(game.ai.context-budget)이 켜져 있으면 최근 턴만 원문으로 두고
+ * 이전 턴은 백그라운드에서 갱신하는 요약으로 대체 (상대 문장 중 제시어 후보 단어가 든 문장은 원문 유지)
+ */
+@Slf4j
+@Service
+public class StoryContextService {
+
+    private static final String STORY_KEY_PREFIX = "game:story:";
+    private static final Duration STORY_TTL = Duration.ofHours(2);
+
+    /** 토큰 수 추정용 (한국어 기준 대략 2자당 1토큰) */
+    private static final double CHARS_PER_TOKEN = 2.0;
+
+    private final StoryEntryRepository storyEntryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final KeywordCatalog keywordCatalog;
+    private final StorySummarizerService storySummarizerService;
+    private final ExecutorService summaryExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.ContextBudget budget;
+    private final Cache<UUID, StoryContext> contexts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(STORY_TTL)
+            .build();
+
+    public StoryContextService(StoryEntryRepository storyEntryRepository,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               KeywordCatalog keywordCatalog,
+                               StorySummarizerService storySummarizerService,
+                               @Qualifier("aiCallExecutor") ExecutorService summaryExecutor,
+                               MeterRegistry meterRegistry,
+                               AiProperties aiProperties) {
+        this.storyEntryRepository = storyEntryRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.keywordCatalog = keywordCatalog;
+        this.storySummarizerService = storySummarizerService;
+        this.summaryExecutor = summaryExecutor;
+        this.meterRegistry = meterRegistry;
+        this.budget = aiProperties.contextBudget();
+    }
+
+    /**
+     * 세션의 스토리 컨텍스트 조회
+     */
+    public StoryContext get(GameSession session) {
+        UUID sessionId = session.getSessionId();
+        StoryContext context = contexts.get(sessionId, id -> load(session));
+        catchUp(sessionId, context);
+        return context;
+    }
+
+    /**
+     * Story Writer 프롬프트용 스토리 (길이 제한 모드면 요약 + 최근 턴)
+     */
+    public String writerPromptView(StoryContext context) {
+        String summary = context.summary();
+        if (!budget.enabled() || summary == null) {
+            return context.writerView();
+        }
+
+        String view = summaryHeader(context, summary)
+                + "[최근 스토리]\n" + context.writerViewFrom(context.unsummarizedStart());
+        recordSavings("writer", context.writerViewLength(), view.length());
+        return view;
+    }
+
+    /**
+     * Keyword Guesser 프롬프트용 전체 스토리 (길이 제한 모드면 요약 + 주요 상대 문장 + 최근 턴)
+     */
+    public String guesserPromptView(StoryContext context) {
+        String summary = context.summary();
+        if (!budget.enabled() || summary == null) {
+            return context.guesserView();
+        }
+
+        int start = context.unsummarizedStart();
+        String view = summaryHeader(context, summary)
+                + keySentencesSection(context, start)
+                + "[최근 스토리]\n" + context.guesserViewFrom(start);
+        recordSavings("guesser", context.guesserViewLength(), view.length());
+        return view;
+    }
+
+    /**
+     * Keyword Guesser 프롬프트용 상대 문장 (길이 제한 모드면 주요 상대 문장 + 최근 턴)
+     */
+    public String opponentPromptView(StoryContext context) {
+        String summary = context.summary();
+        if (!budget.enabled() || summary == null) {
+            return context.opponentView();
+        }
+
+        int start = context.unsummarizedStart();
+        String view = keySentencesSection(context, start) + context.opponentViewFrom(start);
+        recordSavings("opponent", context.opponentViewLength(), view.length());
+        return view;
+    }
+
+    private String summaryHeader(StoryContext context, String summary) {
+        return "[이전 줄거리 요약 (Turn " + context.summarizedThroughTurn() + "까지)]\n" + summary + "\n\n";
+    }
+
+    private String keySentencesSection(StoryContext context, int start) {
+        KeywordMatcher matcher = keywordCatalog.matcher();
+        List<String> sentences = context.keyOpponentSentences(start,
+                sentence -> matcher.scan(sentence).stream().anyMatch(hit -> hit.word().length() >= 2));
+        if (sentences.isEmpty()) {
+            return "";
+        }
+        return "[이전 상대 문장 중 주요 단어가 있는 문장]\n" + String.join("\n", sentences) + "\n\n";
+    }
+
+    /**
+     * 요약으로 줄인 토큰 수 (추정치) 기록
+     */
+    private void recordSavings(String view, int fullChars, int budgetChars) {
+        long saved = Math.round((fullChars - budgetChars) / CHARS_PER_TOKEN);
+        if (saved <= 0) {
+            return;
+        }
+        DistributionSummary.builder("ai.context.tokens.saved")
+                .description("Estimated prompt tokens saved per call by the story summary")
+                .tag("view", view)
+                .register(meterRegistry)
+                .record(saved);
+    }
+
+    /**
+     * 스토리 항목 추가 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void appendAfterCommit(UUID sessionId, int turn, ParticipantType author, String content) {
+        StoryContext.Entry entry = new StoryContext.Entry(turn, author.name(), content);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(sessionId, entry);
+                }
+            });
+        } else {
+            append(sessionId, entry);
+        }
+    }
+
+    /**
+     * 메모리에서 제거 (게임 종료 후)
+     */
+    public void evict(UUID sessionId) {
+        contexts.invalidate(sessionId);
+    }
+
+    private void append(UUID sessionId, StoryContext.Entry entry) {
+        StoryContext context = contexts.getIfPresent(sessionId);
+        if (context != null && context.append(entry)) {
+            summarizeIfNeeded(sessionId, context);
+        }
+
+        // 리스트가 없으면 만들지 않음 (다음 조회 때 DB에서 전체 재구성)
+        try {
+            String key = STORY_KEY_PREFIX + sessionId;
+            redisTemplate.opsForList().rightPushIfPresent(key, serialize(entry));
+            redisTemplate.expire(key, STORY_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to append story context for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 요약되지 않은 이전 턴(최근 턴 제외)이 summarizeEvery개 이상 쌓였으면 백그라운드에서 요약 갱신
+     */
+    private void summarizeIfNeeded(UUID sessionId, StoryContext context) {
+        if (!budget.enabled()) {
+            return;
+        }
+        int start = context.unsummarizedStart();
+        int end = context.size() - budget.recentTurns();
+        if (end - start < budget.summarizeEvery() || !context.tryStartSummarizing()) {
+            return;
+        }
+
+        try {
+            summaryExecutor.execute(() -> {
+                try {
+                    List<StoryContext.Entry> turns = context.entries().subList(start, end);
+                    String newTurns = turns.stream()
+                            .map(e -> "Turn " + e.turn() + ": " + e.content())
+                            .collect(Collectors.joining("\n"));
+                    int throughTurn = turns.get(turns.size() - 1).turn();
+
+                    String summary = storySummarizerService.summarize(context.summary(), newTurns);
+                    context.updateSummary(summary, throughTurn);
+                    saveSummary(sessionId, summary, throughTurn);
+
+                    log.debug("Story summary for session {} updated through turn {}", sessionId, throughTurn);
+                } catch (Exception e) {
+                    // 요약 실패 시 다음 턴에 다시 시도 (그동안은 원문 사용)
+                    log.warn("Failed to summarize story for session {}: {}", sessionId, e.getMessage());
+                } finally {
+                    context.finishSummarizing();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            context.finishSummarizing();
+        }
+    }
+
+    private void saveSummary(UUID sessionId, String summary, int throughTurn) {
+        try {
+            String key = STORY_KEY_PREFIX + sessionId + ":summary";
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    "summary", summary,
+                    "throughTurn", String.valueOf(throughTurn)));
+            redisTemplate.expire(key, STORY_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to store story summary for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void loadSummary(UUID sessionId, StoryContext context) {
+        String key = STORY_KEY_PREFIX + sessionId + ":summary";
+        Object summary = redisTemplate.opsForHash().get(key, "summary");
+        Object throughTurn = redisTemplate.opsForHash().get(key, "throughTurn");
+        if (summary != null && throughTurn != null) {
+            context.updateSummary(summary.toString(), Integer.parseInt(throughTurn.toString()));
+        }
+    }
+
+    /**
+     * Redis에 있으면 Redis에서, 없으면 DB에서 재구성 후 Redis에 기록
+     */
+    private StoryContext load(GameSession session) {
+        UUID sessionId = session.getSessionId();
+        String key = STORY_KEY_PREFIX + sessionId;
+        StoryContext context = new StoryContext();
+
+        try {
+            List<String> stored = redisTemplate.opsForList().range(key, 0, -1);
+            if (stored != null && !stored.isEmpty()) {
+                stored.forEach(json -> context.append(deserialize(json)));
+                loadSummary(sessionId, context);
+                log.debug("Story context for session {} loaded from Redis ({} entries)", sessionId, context.size());
+                return context;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read story context for session {}: {}", sessionId, e.getMessage());
+        }
+
+        List<StoryContext.Entry> entries = new ArrayList<>();
+        if (session.getInitialSituation() != null) {
+            entries.add(new StoryContext.Entry(0, "SYSTEM", session.getInitialSituation()));
+        }
+        for (StoryEntry entry : storyEntryRepository.findAllBySessionIdOrderByTurn(sessionId)) {
+            entries.add(new StoryContext.Entry(entry.getTurn(), entry.getAuthor().name(), entry.getContent()));
+        }
+        entries.forEach(context::append);
+
+        if (!entries.isEmpty()) {
+            try {
+                redisTemplate.opsForList().rightPushAll(key, entries.stream().map(this::serialize).toList());
+                redisTemplate.expire(key, STORY_TTL);
+            } catch (DataAccessException e) {
+                log.warn("Failed to store story context for session {}: {}", sessionId, e.getMessage());
+            }
+        }
+
+        log.debug("Story context for session {} rebuilt from DB ({} entries)", sessionId, context.size());
+        return context;
+    }
+
+    /**
+     * 다른 서버가 추가한 턴 반영
+     * Redis 리스트의 k번째 고유 항목은 항상 인덱스 k 이상에 있으므로 로컬 크기부터 읽으면 누락 없음
+     */
+    private void catchUp(UUID sessionId, StoryContext context) {
+        try {
+            String key = STORY_KEY_PREFIX + sessionId;
+            Long size = redisTemplate.opsForList().size(key);
+            if (size == null || size <= context.size()) {
+                return;
+            }
+            List<String> newer = redisTemplate.opsForList().range(key, context.size(), -1);
+            if (newer != null) {
+                newer.forEach(json -> context.append(deserialize(json)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to sync story context for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private String serialize(StoryContext.Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize story entry", e);
+        }
+    }
+
+    private StoryContext.Entry deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, StoryContext.Entry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize story entry", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.doublecross.service;
+
+import org.springframework.ai.chat.messages.Message;
+
+import java.util.List;
+
+/**
+ * Story Writer 대화 이어가기 상태
+ *
+ * @param history 이전 AI 턴까지의 대화 기록 (비어 있으면 전체 스토리로 새 대화 시작)
+ * @param newTurns 지난 AI 턴 이후 추가된 스토리 (새 대화면 null)
+ */
+public record StoryConversation(
+        List<Message> history,
+        String newTurns
+) {
+
+    public static StoryConversation start() {
+        return new StoryConversation(List.of(), null);
+    }
+
+    public boolean resumed() {
+        return !history.isEmpty();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.ai.AiPrompt;
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.dto.StoryWriteResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Story Writer 대화 이어가기 관리
+ *
+ * 대화 기록은 JDBC 채팅 메모리에, 대화 핸들(마지막으로 반영된 AI 턴)은 TTL이 있는 Redis 키에 보관
+ * 핸들이 만료되었거나 스토리와 맞지 않으면 전체 스토리로 새 대화를 시작
+ * 대화 기록의 AI 응답은 작성한 문장(content)만 남기고, max-turns를 넘으면 기록을 버리고 새 대화를 시작
+ */
+@Slf4j
+@Service
+public class StoryConversationService {
+
+    private static final String HANDLE_KEY_PREFIX = "game:story:";
+    private static final String HANDLE_KEY_SUFFIX = ":conversation";
+    private static final String CONVERSATION_ID_PREFIX = "story-writer:";
+
+    private final ChatMemoryRepository chatMemoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.Conversation properties;
+
+    public StoryConversationService(ChatMemoryRepository chatMemoryRepository,
+                                    StringRedisTemplate redisTemplate,
+                                    MeterRegistry meterRegistry,
+                                    AiProperties aiProperties) {
+        this.chatMemoryRepository = chatMemoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.properties = aiProperties.conversation();
+    }
+
+    /**
+     * 이번 AI 턴의 대화 상태 조회
+     *
+     * @return 대화 상태 (비활성화 시 null)
+     */
+    public StoryConversation resume(UUID sessionId, StoryContext context) {
+        if (!properties.enabled()) {
+            return null;
+        }
+
+        try {
+            String handle = redisTemplate.opsForValue().get(handleKey(sessionId));
+            if (handle == null) {
+                return start(sessionId, "no-handle");
+            }
+
+            // 핸들의 AI 턴이 스토리에 그대로 남아 있어야 이어갈 수 있음
+            int throughTurn = Integer.parseInt(handle);
+            List<StoryContext.Entry> entries = context.entries();
+            int index = -1;
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                if (entries.get(i).turn() == throughTurn) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0 || !"AI".equals(entries.get(index).author())) {
+                return start(sessionId, "stale-handle");
+            }
+
+            List<Message> history = chatMemoryRepository.findByConversationId(conversationId(sessionId));
+            if (history.isEmpty()) {
+                return start(sessionId, "no-history");
+            }
+
+            String newTurns = index + 1 < entries.size()
+                    ? context.writerViewFrom(index + 1)
+                    : "(새로 추가된 스토리 없음)";
+            count("resumed");
+            return new StoryConversation(history, newTurns);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Failed to load story conversation for session {}: {}", sessionId, e.getMessage());
+            return start(sessionId, "error");
+        }
+    }
+
+    /**
+     * 저장된 AI 턴을 대화 기록에 추가하고 핸들 갱신
+     * 턴 저장이 끝난 뒤 호출 (저장되지 않은 응답은 기록하지 않음)
+     */
+    public void record(UUID sessionId, int turn, AiPrompt prompt, StoryWriteResponse response) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        // 기록이 계속 길어지지 않도록 max-turns를 넘으면 다음 턴은 전체 스토리로 새로 시작
+        int turns = prompt.history().size() / 2 + 1;
+        if (turns > properties.maxTurns()) {
+            log.debug("Story conversation for session {} reached {} turns, restarting", sessionId, turns);
+            end(sessionId);
+            return;
+        }
+
+        try {
+            List<Message> messages = new ArrayList<>(prompt.history().size() + 2);
+            messages.addAll(prompt.history());
+            messages.add(new UserMessage(prompt.turn()));
+            messages.add(new AssistantMessage(response.content()));
+
+            chatMemoryRepository.saveAll(conversationId(sessionId), messages);
+            redisTemplate.opsForValue().set(handleKey(sessionId), String.valueOf(turn), properties.ttl());
+        } catch (DataAccessException e) {
+            // 핸들을 지워 다음 턴은 전체 스토리로 새로 시작
+            log.warn("Failed to record story conversation for session {}: {}", sessionId, e.getMessage());
+            deleteHandle(sessionId);
+        }
+    }
+
+    /**
+     * 대화 기록 삭제 (게임 종료 후)
+     */
+    public void end(UUID sessionId) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        deleteHandle(sessionId);
+        try {
+            chatMemoryRepository.deleteByConversationId(conversationId(sessionId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete story conversation for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private StoryConversation start(UUID sessionId, String reason) {
+        log.debug("Starting new story conversation for session {} ({})", sessionId, reason);
+        count("full");
+        return StoryConversation.start();
+    }
+
+    private void deleteHandle(UUID sessionId) {
+        try {
+            redisTemplate.delete(handleKey(sessionId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete conversation handle for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void count(String mode) {
+        Counter.builder("ai.conversation.turns")
+                .description("Story writer turns sent as a conversation delta (resumed) or with the full story (full)")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String handleKey(UUID sessionId) {
+        return HANDLE_KEY_PREFIX + sessionId + HANDLE_KEY_SUFFIX;
+    }
+
+    private static String conversationId(UUID sessionId) {
+        return CONVERSATION_ID_PREFIX + sessionId;
+    }
+}
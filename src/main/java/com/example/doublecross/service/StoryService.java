@@ -1,35 +1,102 @@
 package com.example.doublecross.service;
 
+import com.example.doublecross.ai.AiDeadline;
+import com.example.doublecross.ai.AiPrompt;
+import com.example.doublecross.ai.GuessMode;
+import com.example.doublecross.config.AiProperties;
 import com.example.doublecross.domain.entity.GameSession;
 import com.example.doublecross.domain.entity.Keyword;
 import com.example.doublecross.domain.entity.Participant;
 import com.example.doublecross.domain.entity.StoryEntry;
+import com.example.doublecross.domain.enums.GameStatus;
 import com.example.doublecross.domain.enums.KeywordStatus;
 import com.example.doublecross.domain.enums.ParticipantType;
+import com.example.doublecross.domain.repository.GameSessionRepository;
 import com.example.doublecross.domain.repository.ParticipantRepository;
 import com.example.doublecross.domain.repository.StoryEntryRepository;
+import com.example.doublecross.dto.AiTurnResponse;
+import com.example.doublecross.dto.AiTurnResult;
+import com.example.doublecross.dto.GuessResult;
+import com.example.doublecross.dto.KeywordGuessRequest;
+import com.example.doublecross.dto.KeywordGuessResponse;
 import com.example.doublecross.dto.StorySubmitResult;
 import com.example.doublecross.dto.StoryWriteRequest;
 import com.example.doublecross.dto.StoryWriteResponse;
 import com.example.doublecross.exception.GameException;
-import lombok.RequiredArgsConstructor;
+import com.example.doublecross.exception.GameNotFoundException;
+import com.example.doublecross.exception.InvalidTurnException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StoryService {
 
     private final StoryEntryRepository storyEntryRepository;
     private final ParticipantRepository participantRepository;
+    private final GameSessionRepository gameSessionRepository;
     private final KeywordService keywordService;
     private final StoryWriterService storyWriterService;
+    private final StoryContextService storyContextService;
+    private final StoryConversationService storyConversationService;
+    private final TimerService timerService;
+    private final GuessService guessService;
+    private final KeywordGuesserService keywordGuesserService;
+    private final KeywordSuspicionScorer keywordSuspicionScorer;
+    private final GenreTurnJudgeService genreTurnJudgeService;
+    private final AiProperties aiProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService aiCallExecutor;
+
+    /** 턴 마감 전에 AI 스토리 저장/전송을 마치기 위해 남겨둘 시간 */
+    private static final Duration AI_TURN_SAVE_RESERVE = Duration.ofSeconds(2);
+
+    public StoryService(StoryEntryRepository storyEntryRepository,
+                        ParticipantRepository participantRepository,
+                        GameSessionRepository gameSessionRepository,
+                        KeywordService keywordService,
+                        StoryWriterService storyWriterService,
+                        StoryContextService storyContextService,
+                        StoryConversationService storyConversationService,
+                        TimerService timerService,
+                        GuessService guessService,
+                        KeywordGuesserService keywordGuesserService,
+                        KeywordSuspicionScorer keywordSuspicionScorer,
+                        GenreTurnJudgeService genreTurnJudgeService,
+                        AiProperties aiProperties,
+                        TransactionTemplate transactionTemplate,
+                        @Qualifier("aiCallExecutor") ExecutorService aiCallExecutor) {
+        this.storyEntryRepository = storyEntryRepository;
+        this.participantRepository = participantRepository;
+        this.gameSessionRepository = gameSessionRepository;
+        this.keywordService = keywordService;
+        this.storyWriterService = storyWriterService;
+        this.storyContextService = storyContextService;
+        this.storyConversationService = storyConversationService;
+        this.timerService = timerService;
+        this.guessService = guessService;
+        this.keywordGuesserService = keywordGuesserService;
+        this.keywordSuspicionScorer = keywordSuspicionScorer;
+        this.genreTurnJudgeService = genreTurnJudgeService;
+        this.aiProperties = aiProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.aiCallExecutor = aiCallExecutor;
+    }
 
     /**
      * 플레이어 스토리 제출
@@ -66,6 +133,8 @@ public class StoryService {
                 .build();
 
         storyEntryRepository.save(entry);
+        storyContextService.appendAfterCommit(sessionId, turn, ParticipantType.PLAYER, content);
+        genreTurnJudgeService.scoreAfterCommit(session, turn, content);
 
         log.info("Player submitted story for turn {} (keyword used: {})", turn, keywordUsed);
 
@@ -80,9 +149,158 @@ public class StoryService {
     /**
      * AI 스토리 생성 및 저장
      */
-    @Transactional
     public StorySubmitResult generateAiStory(GameSession session, boolean shouldUseKeyword) {
+        return generateAiStory(session, shouldUseKeyword, null);
+    }
+
+    /**
+     * AI 스토리 생성 및 저장 (스트리밍)
+     * onContentDelta가 있으면 생성되는 문장 조각을 실시간으로 전달
+     *
+     * LLM 호출 동안 DB 커넥션을 점유하지 않도록 세 단계로 나누어 처리
+     * 1. 읽기 트랜잭션: 프롬프트에 필요한 데이터 스냅샷 조회
+     * 2. LLM 호출: 트랜잭션 없음
+     * 3. 쓰기 트랜잭션: 턴/상태 재검증 후 저장
+     *
+     * LLM 호출은 현재 턴 타이머의 남은 시간을 데드라인으로 사용하며,
+     * 지나면 AiTimeoutException이 발생하고 스토리는 저장되지 않음
+     */
+    public StorySubmitResult generateAiStory(GameSession session, boolean shouldUseKeyword,
+                                             Consumer<String> onContentDelta) {
+        UUID sessionId = session.getSessionId();
+
+        // 1. 읽기 단계
+        AiTurnSnapshot snapshot = transactionTemplate.execute(status ->
+                loadAiTurnSnapshot(sessionId, shouldUseKeyword));
+
+        return generateAiStory(snapshot, onContentDelta);
+    }
+
+    private StorySubmitResult generateAiStory(AiTurnSnapshot snapshot, Consumer<String> onContentDelta) {
+        UUID sessionId = snapshot.sessionId();
+
+        // 2. LLM 단계 (트랜잭션 밖, 턴 남은 시간 안에서만)
+        AiDeadline deadline = timerService.getTurnDeadline(sessionId).minus(AI_TURN_SAVE_RESERVE);
+        AiPrompt prompt = storyWriterService.buildPrompt(snapshot.request(), snapshot.conversation());
+        StoryWriteResponse response = storyWriterService.write(prompt, snapshot.request(), deadline, onContentDelta);
+
+        // 3. 쓰기 단계
+        StorySubmitResult result = transactionTemplate.execute(status -> saveAiStory(snapshot, response));
+
+        // 저장된 턴만 대화 기록에 반영 (대화 이어가기 모드)
+        storyConversationService.record(sessionId, snapshot.turn(), prompt, response);
+        return result;
+    }
+
+    /**
+     * AI 턴 실행 (스토리 작성 + 제시어 추측)
+     * - FUSED: 스토리 작성 호출에서 추측 결정도 함께 받음 (AI 턴 전체가 모델 호출 1회)
+     * - PARALLEL: 같은 스냅샷으로 추측 분석을 스토리 작성과 동시에 호출 (AI 턴 시간은 둘 중 긴 쪽)
+     * 추측 기회가 없거나 추측 방식이 OFF거나, 사전 필터가 상대 문장에서 의심 단어를 찾지 못하면 스토리만 작성
+     * 결과는 스토리 저장 → 추측 처리 순서로 반영
+     *
+     * @param onContentDelta 생성되는 문장 조각을 받는 콜백 (null이면 스트리밍하지 않음)
+     */
+    public AiTurnResult generateAiTurn(GameSession session, boolean shouldUseKeyword,
+                                       Consumer<String> onContentDelta) {
         UUID sessionId = session.getSessionId();
+        GuessMode mode = aiProperties.guess().mode();
+
+        // 1. 읽기 단계
+        AiTurnSnapshot snapshot = transactionTemplate.execute(status ->
+                loadAiTurnSnapshot(sessionId, shouldUseKeyword));
+
+        if (!snapshot.guessWorthy()) {
+            return new AiTurnResult(generateAiStory(snapshot, onContentDelta), null);
+        }
+        if (mode == GuessMode.PARALLEL) {
+            return generateAiTurnInParallel(session, snapshot, onContentDelta);
+        }
+
+        // 2. LLM 단계 (스토리 + 추측 결정)
+        AiDeadline deadline = timerService.getTurnDeadline(sessionId).minus(AI_TURN_SAVE_RESERVE);
+        AiPrompt prompt = storyWriterService.buildTurnPrompt(
+                snapshot.request(), snapshot.conversation(), snapshot.guessesRemaining());
+        AiTurnResponse response = storyWriterService.writeTurn(prompt, snapshot.request(), deadline, onContentDelta);
+
+        // 3. 쓰기 단계
+        StorySubmitResult story = transactionTemplate.execute(status -> saveAiStory(snapshot, response.story()));
+        storyConversationService.record(sessionId, snapshot.turn(), prompt, response.story());
+
+        // 4. 추측
+        return new AiTurnResult(story, applyAiGuess(session, snapshot.turn(), response.guess()));
+    }
+
+    /**
+     * 추측 분석(가상 스레드)과 스토리 작성(현재 스레드)을 동시에 실행
+     * 스토리 작성이 실패하면 추측 분석도 취소하고, 추측 분석이 실패하면 이번 턴은 추측하지 않음
+     */
+    private AiTurnResult generateAiTurnInParallel(GameSession session, AiTurnSnapshot snapshot,
+                                                  Consumer<String> onContentDelta) {
+        AiDeadline deadline = timerService.getTurnDeadline(session.getSessionId()).minus(AI_TURN_SAVE_RESERVE);
+        Future<KeywordGuessResponse> guessTask = aiCallExecutor.submit(() ->
+                keywordGuesserService.guessKeyword(snapshot.guessRequest(), deadline));
+
+        StorySubmitResult story;
+        try {
+            story = generateAiStory(snapshot, onContentDelta);
+        } catch (RuntimeException e) {
+            guessTask.cancel(true);
+            keywordSuspicionScorer.recordOutcome(KeywordSuspicionScorer.Outcome.FAILED);
+            throw e;
+        }
+
+        KeywordGuessResponse decision = awaitGuess(guessTask, deadline);
+        return new AiTurnResult(story, decision != null ? applyAiGuess(session, snapshot.turn(), decision) : null);
+    }
+
+    private KeywordGuessResponse awaitGuess(Future<KeywordGuessResponse> guessTask, AiDeadline deadline) {
+        try {
+            return guessTask.get(deadline.remaining().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            guessTask.cancel(true);
+            keywordSuspicionScorer.recordOutcome(KeywordSuspicionScorer.Outcome.FAILED);
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            guessTask.cancel(true);
+            log.warn("AI keyword guess skipped: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            keywordSuspicionScorer.recordOutcome(KeywordSuspicionScorer.Outcome.FAILED);
+            return null;
+        }
+    }
+
+    /**
+     * AI 추측 결정 반영 (확신도가 기준 이상인 GUESS만)
+     *
+     * @return 추측 결과 (추측하지 않았으면 null)
+     */
+    private GuessResult applyAiGuess(GameSession session, int turn, KeywordGuessResponse decision) {
+        if (!decision.isGuess() || decision.guessWord() == null || decision.guessWord().isBlank()
+                || decision.confidence() < aiProperties.guess().minConfidence()) {
+            keywordSuspicionScorer.recordOutcome(KeywordSuspicionScorer.Outcome.PASS);
+            return null;
+        }
+
+        log.info("AI guessed '{}' in turn {} (confidence {})", decision.guessWord(), turn, decision.confidence());
+        GuessResult result = guessService.processGuess(session, ParticipantType.AI, decision.guessWord().strip());
+        keywordSuspicionScorer.recordOutcome(result.isCorrect()
+                ? KeywordSuspicionScorer.Outcome.CORRECT
+                : KeywordSuspicionScorer.Outcome.WRONG);
+        return result;
+    }
+
+    /**
+     * AI 턴 프롬프트 구성에 필요한 데이터 조회
+     */
+    private AiTurnSnapshot loadAiTurnSnapshot(UUID sessionId, boolean shouldUseKeyword) {
+        GameSession session = gameSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new GameNotFoundException(sessionId));
+
+        if (session.getStatus() != GameStatus.IN_PROGRESS) {
+            throw new GameException("진행 중인 게임이 아닙니다.");
+        }
+
         int turn = session.getCurrentTurn();
 
         // AI 참가자 조회
@@ -90,11 +308,9 @@ public class StoryService {
                 .findBySessionIdAndTypeWithKeyword(sessionId, ParticipantType.AI)
                 .orElseThrow(() -> new GameException("AI를 찾을 수 없습니다."));
 
-        // 기존 스토리 조회
-        List<StoryEntry> previousEntries = storyEntryRepository.findAllBySessionIdOrderByTurn(sessionId);
-        List<StoryWriteRequest.StoryEntry> storySoFar = convertToRequestEntries(previousEntries, session);
+        // 기존 스토리 (누적 컨텍스트에서 렌더링된 뷰 사용, DB 재조회 없음)
+        StoryContext context = storyContextService.get(session);
 
-        // AI 스토리 생성
         Keyword currentKeyword = ai.getCurrentKeyword();
         StoryWriteRequest request = new StoryWriteRequest(
                 ai.getSecretGenre().name(),
@@ -102,13 +318,81 @@ public class StoryService {
                 ai.getKeywordStatus().name(),
                 turn,
                 session.getMaxTurns(),
-                storySoFar,
-                shouldUseKeyword && ai.getKeywordStatus() == KeywordStatus.PENDING
+                null,
+                shouldUseKeyword && ai.getKeywordStatus() == KeywordStatus.PENDING,
+                storyContextService.writerPromptView(context)
         );
 
-        StoryWriteResponse response = storyWriterService.writeStory(request);
+        // 추측 여부 결정 (마지막 AI 문장 이후 새로 추가된 상대 문장만 사전 필터로 검사)
+        GuessMode mode = aiProperties.guess().mode();
+        boolean guessWorthy = mode != GuessMode.OFF && ai.getGuessesRemaining() > 0
+                && keywordSuspicionScorer.shouldInvoke(ai.getSecretGenre(), newOpponentSentences(context));
+
+        // 추측 분석을 동시에 실행하는 경우 같은 스냅샷으로 추측 요청 구성
+        KeywordGuessRequest guessRequest = null;
+        if (mode == GuessMode.PARALLEL && guessWorthy) {
+            guessRequest = new KeywordGuessRequest(
+                    null,
+                    ai.getSecretGenre().name(),
+                    ai.getGuessesRemaining(),
+                    turn,
+                    session.getMaxTurns(),
+                    null,
+                    storyContextService.guesserPromptView(context),
+                    storyContextService.opponentPromptView(context)
+            );
+        }
+
+        return new AiTurnSnapshot(sessionId, turn, request, storyConversationService.resume(sessionId, context),
+                ai.getGuessesRemaining(), guessWorthy, guessRequest);
+    }
+
+    /**
+     * 마지막 AI 문장 이후에 추가된 플레이어 문장
+     */
+    private static List<String> newOpponentSentences(StoryContext context) {
+        List<StoryContext.Entry> entries = context.entries();
+        List<String> sentences = new ArrayList<>();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            StoryContext.Entry entry = entries.get(i);
+            if (ParticipantType.AI.name().equals(entry.author())) {
+                break;
+            }
+            if (ParticipantType.PLAYER.name().equals(entry.author())) {
+                sentences.add(entry.content());
+            }
+        }
+        return sentences;
+    }
+
+    /**
+     * 생성된 AI 스토리 저장
+     * LLM 호출 중 턴이 넘어갔거나 게임 상태가 바뀌었으면 저장하지 않음
+     */
+    private StorySubmitResult saveAiStory(AiTurnSnapshot snapshot, StoryWriteResponse response) {
+        UUID sessionId = snapshot.sessionId();
+        int turn = snapshot.turn();
+
+        GameSession session = gameSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new GameNotFoundException(sessionId));
+
+        if (session.getStatus() != GameStatus.IN_PROGRESS) {
+            throw new GameException("진행 중인 게임이 아닙니다.");
+        }
+        if (session.getCurrentTurn() != turn) {
+            throw new InvalidTurnException(turn, session.getCurrentTurn());
+        }
+        if (storyEntryRepository.findBySessionSessionIdAndTurn(sessionId, turn).isPresent()) {
+            throw new InvalidTurnException("이미 작성된 턴입니다: " + turn);
+        }
+
+        // LLM 호출 중 제시어가 바뀌었을 수 있으므로 다시 조회
+        Participant ai = participantRepository
+                .findBySessionIdAndTypeWithKeyword(sessionId, ParticipantType.AI)
+                .orElseThrow(() -> new GameException("AI를 찾을 수 없습니다."));
 
         // 제시어 사용 여부 확인
+        Keyword currentKeyword = ai.getCurrentKeyword();
         boolean keywordUsed = false;
         if (currentKeyword != null && response.keywordUsed()) {
             keywordUsed = keywordService.containsKeyword(response.content(), currentKeyword.getWord());
@@ -127,6 +411,8 @@ public class StoryService {
                 .build();
 
         storyEntryRepository.save(entry);
+        storyContextService.appendAfterCommit(sessionId, turn, ParticipantType.AI, response.content());
+        genreTurnJudgeService.scoreAfterCommit(session, turn, response.content());
 
         log.info("AI generated story for turn {} (keyword used: {})", turn, keywordUsed);
 
@@ -176,29 +462,6 @@ public class StoryService {
         return initialSituation;
     }
 
-    /**
-     * StoryEntry를 StoryWriteRequest.StoryEntry로 변환
-     */
-    private List<StoryWriteRequest.StoryEntry> convertToRequestEntries(List<StoryEntry> entries, GameSession session) {
-        List<StoryWriteRequest.StoryEntry> result = new java.util.ArrayList<>();
-
-        // 초기 상황 추가 (턴 0)
-        if (session.getInitialSituation() != null) {
-            result.add(new StoryWriteRequest.StoryEntry(0, "SYSTEM", session.getInitialSituation()));
-        }
-
-        // 각 스토리 항목 추가
-        for (StoryEntry entry : entries) {
-            result.add(new StoryWriteRequest.StoryEntry(
-                    entry.getTurn(),
-                    entry.getAuthor().name(),
-                    entry.getContent()
-            ));
-        }
-
-        return result;
-    }
-
     /**
      * 세션의 전체 스토리 조회
      */
@@ -207,24 +470,17 @@ public class StoryService {
     }
 
     /**
-     * 전체 스토리 텍스트 생성
+     * 전체 스토리 텍스트 생성 (누적 컨텍스트 사용)
      */
     public String buildFullStory(GameSession session) {
-        List<StoryEntry> entries = storyEntryRepository.findAllBySessionIdOrderByTurn(session.getSessionId());
-
-        StringBuilder sb = new StringBuilder();
-
-        // 초기 상황 추가
-        if (session.getInitialSituation() != null) {
-            sb.append(session.getInitialSituation()).append("\n\n");
-        }
-
-        // 각 턴의 스토리 추가
-        for (StoryEntry entry : entries) {
-            sb.append(entry.getContent()).append("\n\n");
-        }
+        return getStoryContext(session).fullStory();
+    }
 
-        return sb.toString().trim();
+    /**
+     * 누적 스토리 컨텍스트 조회
+     */
+    public StoryContext getStoryContext(GameSession session) {
+        return storyContextService.get(session);
     }
 
     /**
@@ -241,4 +497,17 @@ public class StoryService {
         return storyEntryRepository.findBySessionSessionIdAndTurn(sessionId, turn)
                 .orElse(null);
     }
+
+    /**
+     * AI 턴 생성 시점의 데이터 스냅샷
+     */
+    private record AiTurnSnapshot(
+            UUID sessionId,
+            int turn,
+            StoryWriteRequest request,
+            StoryConversation conversation,
+            int guessesRemaining,
+            boolean guessWorthy,
+            KeywordGuessRequest guessRequest
+    ) {}
 }
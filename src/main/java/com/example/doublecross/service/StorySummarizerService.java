@@ -0,0 +1,40 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.ai.AiGateway;
+import com.example.doublecross.ai.AiTaskType;
+import com.example.doublecross.prompt.PromptCatalog;
+import com.example.doublecross.prompt.PromptTemplates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorySummarizerService {
+
+    private final AiGateway aiGateway;
+    private final PromptCatalog promptCatalog;
+
+    /**
+     * 이전 요약과 새 턴을 합쳐 줄거리 요약을 만듭니다.
+     *
+     * @param previousSummary 이전 요약 (없으면 null)
+     * @param newTurns 요약에 합칠 턴들
+     * @return 새 줄거리 요약
+     */
+    public String summarize(String previousSummary, String newTurns) {
+        String userPrompt = promptCatalog.storySummarizerUser().render(Map.of(
+                "previousSummary", previousSummary != null ? previousSummary : "(없음)",
+                "newTurns", newTurns));
+
+        String summary = aiGateway.call(
+                AiTaskType.SUMMARIZER, PromptTemplates.STORY_SUMMARIZER_SYSTEM_PROMPT, userPrompt);
+
+        log.debug("Story summary: {}", summary);
+
+        return summary.trim();
+    }
+}
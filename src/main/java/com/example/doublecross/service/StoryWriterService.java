@@ -1,23 +1,57 @@
 package com.example.doublecross.service;
 
 
+import com.example.doublecross.ai.AiDeadline;
+import com.example.doublecross.ai.AiGateway;
+import com.example.doublecross.ai.AiJsonParser;
+import com.example.doublecross.ai.AiPrompt;
+import com.example.doublecross.ai.AiTaskType;
+import com.example.doublecross.ai.StreamingJsonFieldExtractor;
+import com.example.doublecross.config.AiProperties;
+import com.example.doublecross.dto.AiTurnResponse;
 import com.example.doublecross.dto.StoryWriteRequest;
 import com.example.doublecross.dto.StoryWriteResponse;
+import com.example.doublecross.exception.AiResponseParseException;
+import com.example.doublecross.exception.AiUnavailableException;
+import com.example.doublecross.prompt.PromptCatalog;
 import com.example.doublecross.prompt.PromptTemplates;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StoryWriterService {
 
-    private final ChatClient.Builder chatClientBuilder;
-    private final ObjectMapper objectMapper;
+    private final AiGateway aiGateway;
+    private final PromptCatalog promptCatalog;
+    private final AiJsonParser aiJsonParser;
+    private final StoryCandidateScorer candidateScorer;
+    private final KeywordService keywordService;
+    private final MeterRegistry meterRegistry;
+    private final AiProperties.Candidates candidates;
+
+    public StoryWriterService(AiGateway aiGateway,
+                              PromptCatalog promptCatalog,
+                              AiJsonParser aiJsonParser,
+                              StoryCandidateScorer candidateScorer,
+                              KeywordService keywordService,
+                              MeterRegistry meterRegistry,
+                              AiProperties aiProperties) {
+        this.aiGateway = aiGateway;
+        this.promptCatalog = promptCatalog;
+        this.aiJsonParser = aiJsonParser;
+        this.candidateScorer = candidateScorer;
+        this.keywordService = keywordService;
+        this.meterRegistry = meterRegistry;
+        this.candidates = aiProperties.candidates();
+    }
 
     /**
      * AI가 스토리를 작성합니다.
@@ -26,44 +60,259 @@ public class StoryWriterService {
      * @return 작성된 스토리 응답
      */
     public StoryWriteResponse writeStory(StoryWriteRequest request) {
-        ChatClient chatClient = chatClientBuilder.build();
+        return writeStory(request, null);
+    }
 
-        // 시스템 프롬프트 구성
-        String systemPrompt = PromptTemplates.STORY_WRITER_SYSTEM_PROMPT
-                .replace("{aiGenre}", request.aiGenre())
-                .replace("{aiKeyword}", request.aiKeyword())
-                .replace("{keywordStatus}", request.keywordStatus());
+    /**
+     * AI가 데드라인 안에서 스토리를 작성합니다.
+     *
+     * @param request 스토리 작성 요청
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @return 작성된 스토리 응답
+     * @throws com.example.doublecross.exception.AiTimeoutException 마감 시각까지 응답이 없는 경우
+     */
+    public StoryWriteResponse writeStory(StoryWriteRequest request, AiDeadline deadline) {
+        return write(buildPrompt(request, null), deadline, null);
+    }
 
-        // 지시문 구성
-        String instruction;
-        if (request.shouldUseKeyword()) {
-            instruction = PromptTemplates.INSTRUCTION_USE_KEYWORD
-                    .replace("{keyword}", request.aiKeyword());
-        } else {
-            instruction = PromptTemplates.INSTRUCTION_NO_KEYWORD
-                    .replace("{genre}", request.aiGenre());
+    /**
+     * AI가 스토리를 스트리밍으로 작성합니다.
+     * content 필드가 채워지는 대로 조각을 콜백으로 전달하고, 완료되면 전체 응답을 파싱합니다.
+     *
+     * @param request 스토리 작성 요청
+     * @param onContentDelta content 필드의 새로 수신된 조각을 받는 콜백
+     * @return 작성된 스토리 응답
+     */
+    public StoryWriteResponse writeStoryStreaming(StoryWriteRequest request, Consumer<String> onContentDelta) {
+        return writeStoryStreaming(request, null, onContentDelta);
+    }
+
+    /**
+     * AI가 데드라인 안에서 스토리를 스트리밍으로 작성합니다.
+     *
+     * @param request 스토리 작성 요청
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @param onContentDelta content 필드의 새로 수신된 조각을 받는 콜백
+     * @return 작성된 스토리 응답
+     * @throws com.example.doublecross.exception.AiTimeoutException 마감 시각까지 응답이 끝나지 않은 경우
+     */
+    public StoryWriteResponse writeStoryStreaming(StoryWriteRequest request, AiDeadline deadline,
+                                                  Consumer<String> onContentDelta) {
+        return write(buildPrompt(request, null), deadline, onContentDelta);
+    }
+
+    /**
+     * 구성된 프롬프트로 스토리를 작성합니다.
+     *
+     * @param prompt buildPrompt로 구성한 프롬프트
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @param onContentDelta content 필드 조각을 받는 콜백 (null이면 스트리밍하지 않음)
+     * @return 작성된 스토리 응답
+     * @throws com.example.doublecross.exception.AiTimeoutException 마감 시각까지 응답이 끝나지 않은 경우
+     */
+    public StoryWriteResponse write(AiPrompt prompt, AiDeadline deadline, Consumer<String> onContentDelta) {
+        String response = generate(AiTaskType.STORY_WRITER, prompt, deadline, onContentDelta);
+        return aiJsonParser.parse(AiTaskType.STORY_WRITER, response, StoryWriteResponse.class);
+    }
+
+    /**
+     * 한 번의 호출로 스토리를 작성하고 상대 제시어 추측 여부도 함께 받습니다.
+     *
+     * @param prompt buildTurnPrompt로 구성한 프롬프트
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @param onContentDelta content 필드 조각을 받는 콜백 (null이면 스트리밍하지 않음)
+     * @return 스토리 + 추측 응답
+     * @throws com.example.doublecross.exception.AiTimeoutException 마감 시각까지 응답이 끝나지 않은 경우
+     */
+    public AiTurnResponse writeTurn(AiPrompt prompt, AiDeadline deadline, Consumer<String> onContentDelta) {
+        String response = generate(AiTaskType.AI_TURN, prompt, deadline, onContentDelta);
+        return aiJsonParser.parse(AiTaskType.AI_TURN, response, AiTurnResponse.class);
+    }
+
+    /**
+     * 한 번의 호출로 스토리를 작성하고 상대 제시어 추측 여부도 함께 받습니다.
+     * 후보 모드가 켜져 있고 이번 턴에 제시어를 써야 하면, 후보 여러 개를 받아
+     * 스토리 점수가 가장 높은 후보를 추측 결정과 함께 사용합니다.
+     *
+     * @param prompt buildTurnPrompt로 구성한 프롬프트
+     * @param request 후보 점수 계산에 사용할 요청
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @param onContentDelta content 필드 조각을 받는 콜백 (null이면 스트리밍하지 않음)
+     * @return 스토리 + 추측 응답
+     */
+    public AiTurnResponse writeTurn(AiPrompt prompt, StoryWriteRequest request, AiDeadline deadline,
+                                    Consumer<String> onContentDelta) {
+        if (!candidates.enabled() || !request.shouldUseKeyword()) {
+            return writeTurn(prompt, deadline, onContentDelta);
         }
 
-        // 사용자 프롬프트 구성
-        String userPrompt = PromptTemplates.STORY_WRITER_USER_PROMPT
-                .replace("{currentTurn}", String.valueOf(request.currentTurn()))
-                .replace("{maxTurns}", String.valueOf(request.maxTurns()))
-                .replace("{shouldUseKeyword}", request.shouldUseKeyword() ? "예 (이번 턴에 제시어 사용)" : "아니오")
-                .replace("{storySoFar}", request.getStoryAsString())
-                .replace("{instruction}", instruction);
+        List<AiTurnResponse> parsed = candidates(AiTaskType.AI_TURN, prompt, deadline, AiTurnResponse.class);
+        AiTurnResponse best = candidateScorer.best(parsed, AiTurnResponse::story, request);
+        return chosen(best, best.story(), parsed.size(), request, onContentDelta);
+    }
 
-        log.debug("System Prompt: {}", systemPrompt);
-        log.debug("User Prompt: {}", userPrompt);
+    private String generate(AiTaskType type, AiPrompt prompt, AiDeadline deadline, Consumer<String> onContentDelta) {
+        log.debug("Session Prompt: {}", prompt.sessionContext());
+        log.debug("User Prompt ({} history messages): {}", prompt.history().size(), prompt.turn());
 
-        String response = chatClient.prompt()
-                .system(systemPrompt)
-                .user(userPrompt)
-                .call()
-                .content();
+        String response;
+        if (onContentDelta == null) {
+            response = deadline != null
+                    ? aiGateway.call(type, prompt, deadline)
+                    : aiGateway.call(type, prompt);
+        } else {
+            StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+
+            Consumer<String> onChunk = chunk -> {
+                String delta = extractor.feed(chunk);
+                if (!delta.isEmpty()) {
+                    onContentDelta.accept(delta);
+                }
+            };
+            response = deadline != null
+                    ? aiGateway.stream(type, prompt, deadline, onChunk)
+                    : aiGateway.stream(type, prompt, onChunk);
+        }
 
         log.debug("AI Response: {}", response);
+        return response;
+    }
 
-        return parseResponse(response);
+    /**
+     * 구성된 프롬프트로 스토리를 작성합니다.
+     * 후보 모드가 켜져 있고 이번 턴에 제시어를 써야 하면, 한 번의 호출로 후보 여러 개를 받아
+     * 로컬 점수가 가장 높은 후보를 고릅니다 (이 경우 선택된 문장을 한 번에 콜백으로 전달).
+     *
+     * @param prompt buildPrompt로 구성한 프롬프트
+     * @param request 후보 점수 계산에 사용할 요청
+     * @param deadline 호출 마감 시각 (null이면 게이트웨이 기본 제한 시간)
+     * @param onContentDelta content 필드 조각을 받는 콜백 (null이면 스트리밍하지 않음)
+     * @return 작성된 스토리 응답
+     */
+    public StoryWriteResponse write(AiPrompt prompt, StoryWriteRequest request, AiDeadline deadline,
+                                    Consumer<String> onContentDelta) {
+        if (!candidates.enabled() || !request.shouldUseKeyword()) {
+            return write(prompt, deadline, onContentDelta);
+        }
+
+        List<StoryWriteResponse> parsed = candidates(AiTaskType.STORY_WRITER, prompt, deadline,
+                StoryWriteResponse.class);
+        StoryWriteResponse best = candidateScorer.best(parsed, request);
+        return chosen(best, best, parsed.size(), request, onContentDelta);
+    }
+
+    /**
+     * 후보 여러 개를 한 번에 받아 파싱 (파싱에 실패한 후보는 제외, 모두 실패하면 예외)
+     */
+    private <T> List<T> candidates(AiTaskType type, AiPrompt prompt, AiDeadline deadline, Class<T> responseType) {
+        List<String> texts = deadline != null
+                ? aiGateway.callCandidates(type, prompt, deadline, candidates.count())
+                : aiGateway.callCandidates(type, prompt, candidates.count());
+
+        List<T> parsed = new ArrayList<>(texts.size());
+        AiResponseParseException parseError = null;
+        for (String text : texts) {
+            try {
+                parsed.add(aiJsonParser.parse(type, text, responseType));
+            } catch (AiResponseParseException e) {
+                parseError = e;
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw parseError != null ? parseError : new AiUnavailableException("AI 응답이 비어 있습니다.");
+        }
+        return parsed;
+    }
+
+    /**
+     * 선택된 후보 기록 (선택된 문장은 한 번에 콜백으로 전달)
+     */
+    private <T> T chosen(T best, StoryWriteResponse story, int count, StoryWriteRequest request,
+                         Consumer<String> onContentDelta) {
+        boolean keywordIncluded = story != null && story.content() != null
+                && keywordService.containsKeyword(story.content(), request.aiKeyword());
+        Counter.builder("ai.story.candidates")
+                .description("Keyword turns written with multiple candidates, by whether the chosen one has the keyword")
+                .tag("keyword", keywordIncluded ? "included" : "missing")
+                .register(meterRegistry)
+                .increment();
+        log.debug("Chose story candidate among {} (keyword included: {})", count, keywordIncluded);
+
+        if (onContentDelta != null && story != null && story.content() != null) {
+            onContentDelta.accept(story.content());
+        }
+        return best;
+    }
+
+    /**
+     * 프롬프트 구성
+     * 프롬프트 캐시가 적용되도록 모든 세션 공통 규칙 → 세션 정보 → (대화 기록) → 턴 정보 순서로 배치
+     *
+     * @param conversation 이어갈 대화 (null이거나 새 대화면 전체 스토리 전송)
+     */
+    public AiPrompt buildPrompt(StoryWriteRequest request, StoryConversation conversation) {
+        String sessionContext = promptCatalog.storyWriterSession().render(Map.of(
+                "aiGenre", request.aiGenre(),
+                "aiKeyword", request.aiKeyword()));
+
+        if (conversation != null && conversation.resumed()) {
+            return new AiPrompt(PromptTemplates.STORY_WRITER_SYSTEM_PROMPT, sessionContext,
+                    conversation.history(), buildContinuePrompt(request, conversation.newTurns()));
+        }
+        return new AiPrompt(PromptTemplates.STORY_WRITER_SYSTEM_PROMPT, sessionContext, buildUserPrompt(request));
+    }
+
+    /**
+     * AI 턴 프롬프트 구성 (스토리 작성 프롬프트에 추측 지시를 덧붙임)
+     *
+     * @param guessesRemaining AI의 남은 추측 기회
+     */
+    public AiPrompt buildTurnPrompt(StoryWriteRequest request, StoryConversation conversation, int guessesRemaining) {
+        AiPrompt story = buildPrompt(request, conversation);
+        String guess = promptCatalog.aiTurnGuess().render(Map.of(
+                "guessesRemaining", String.valueOf(guessesRemaining)));
+
+        return new AiPrompt(PromptTemplates.AI_TURN_SYSTEM_PROMPT, story.sessionContext(), story.history(),
+                story.turn() + guess);
+    }
+
+    /**
+     * 사용자 프롬프트 구성
+     */
+    private String buildUserPrompt(StoryWriteRequest request) {
+        return promptCatalog.storyWriterUser().render(Map.of(
+                "keywordStatus", request.keywordStatus(),
+                "currentTurn", String.valueOf(request.currentTurn()),
+                "maxTurns", String.valueOf(request.maxTurns()),
+                "shouldUseKeyword", shouldUseKeywordText(request),
+                "storySoFar", request.getStoryAsString(),
+                "instruction", buildInstruction(request)));
+    }
+
+    /**
+     * 대화 이어가기 프롬프트 구성 (지난 AI 턴 이후 변경분만)
+     */
+    private String buildContinuePrompt(StoryWriteRequest request, String newTurns) {
+        return promptCatalog.storyWriterContinue().render(Map.of(
+                "newTurns", newTurns,
+                "keywordStatus", request.keywordStatus(),
+                "currentTurn", String.valueOf(request.currentTurn()),
+                "maxTurns", String.valueOf(request.maxTurns()),
+                "shouldUseKeyword", shouldUseKeywordText(request),
+                "instruction", buildInstruction(request)));
+    }
+
+    private String buildInstruction(StoryWriteRequest request) {
+        if (request.shouldUseKeyword()) {
+            return promptCatalog.instructionUseKeyword()
+                    .render(Map.of("keyword", request.aiKeyword()));
+        }
+        return promptCatalog.instructionNoKeyword()
+                .render(Map.of("genre", request.aiGenre()));
+    }
+
+    private static String shouldUseKeywordText(StoryWriteRequest request) {
+        return request.shouldUseKeyword() ? "예 (이번 턴에 제시어 사용)" : "아니오";
     }
 
     /**
@@ -109,43 +358,4 @@ public class StoryWriterService {
         );
         return writeStory(request);
     }
-
-    /**
-     * AI 응답을 StoryWriteResponse 객체로 파싱
-     */
-    private StoryWriteResponse parseResponse(String response) {
-        try {
-            String json = extractJson(response);
-            return objectMapper.readValue(json, StoryWriteResponse.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse AI response: {}", response, e);
-            throw new RuntimeException("AI 응답 파싱 실패", e);
-        }
-    }
-
-    /**
-     * 응답에서 JSON 부분만 추출
-     */
-    private String extractJson(String response) {
-        // ```json 으로 시작하는 경우 처리
-        if (response.contains("```json")) {
-            int start = response.indexOf("```json") + 7;
-            int end = response.lastIndexOf("```");
-            if (end > start) {
-                return response.substring(start, end).trim();
-            }
-        }
-
-        // ``` 으로 시작하는 경우 처리
-        if (response.contains("```")) {
-            int start = response.indexOf("```") + 3;
-            int end = response.lastIndexOf("```");
-            if (end > start) {
-                return response.substring(start, end).trim();
-            }
-        }
-
-        // 그냥 JSON인 경우
-        return response.trim();
-    }
 }
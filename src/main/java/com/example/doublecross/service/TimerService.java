@@ -1,5 +1,7 @@
 package com.example.doublecross.service;
 
+import com.example.doublecross.ai.AiDeadline;
+import com.example.doublecross.domain.enums.JudgingStage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -19,6 +21,7 @@ public class TimerService {
 
     private static final String TIMER_KEY_PREFIX = "game:timer:";
     private static final String SESSION_KEY_PREFIX = "game:session:";
+    private static final String JUDGING_RETRY_KEY_PREFIX = "game:judging:retry:";
 
     /**
      * 턴 타이머 시작
@@ -52,6 +55,16 @@ public class TimerService {
         return ttl != null && ttl > 0 ? ttl : 0;
     }
 
+    /**
+     * 현재 턴 타이머 기준 마감 시각 (타이머가 없거나 만료되었으면 이미 지난 데드라인)
+     */
+    public AiDeadline getTurnDeadline(UUID sessionId) {
+        String timerKey = TIMER_KEY_PREFIX + sessionId;
+        Long ttl = redisTemplate.getExpire(timerKey, TimeUnit.MILLISECONDS);
+
+        return AiDeadline.after(Duration.ofMillis(ttl != null && ttl > 0 ? ttl : 0));
+    }
+
     /**
      * 타이머 만료 여부 확인
      */
@@ -106,6 +119,47 @@ public class TimerService {
         log.debug("AI thinking status updated for session {}: {}", sessionId, thinking);
     }
 
+    /**
+     * 장르 판정 진행 단계 업데이트
+     */
+    public void updateJudgingStage(UUID sessionId, JudgingStage stage) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        redisTemplate.opsForHash().put(sessionKey, "judgingStage", stage.name());
+        if (stage == JudgingStage.QUEUED) {
+            redisTemplate.opsForHash().put(sessionKey, "judgingStartedAt", String.valueOf(Instant.now().toEpochMilli()));
+        }
+        redisTemplate.expire(sessionKey, Duration.ofHours(2));
+
+        log.debug("Judging stage updated for session {}: {}", sessionId, stage);
+    }
+
+    /**
+     * 판정 재제출 권한 선점 (window 동안 한 요청만 성공)
+     */
+    public boolean claimJudgingRetry(UUID sessionId, Duration window) {
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(JUDGING_RETRY_KEY_PREFIX + sessionId, String.valueOf(Instant.now().toEpochMilli()), window);
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    /**
+     * 장르 판정 진행 단계 조회 (기록이 없으면 null)
+     */
+    public JudgingStage getJudgingStage(UUID sessionId) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        Object stage = redisTemplate.opsForHash().get(sessionKey, "judgingStage");
+        return stage != null ? JudgingStage.valueOf(stage.toString()) : null;
+    }
+
+    /**
+     * 장르 판정 경과 시간 조회 (밀리초)
+     */
+    public long getJudgingElapsedMillis(UUID sessionId) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        Object startedAt = redisTemplate.opsForHash().get(sessionKey, "judgingStartedAt");
+        return startedAt != null ? Instant.now().toEpochMilli() - Long.parseLong(startedAt.toString()) : 0;
+    }
+
     /**
      * 추측 기회 저장 (빠른 조회용)
      */
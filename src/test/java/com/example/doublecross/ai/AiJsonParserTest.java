@@ -0,0 +1,69 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.dto.StoryWriteResponse;
+import com.example.doublecross.exception.AiResponseParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiJsonParserTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiJsonParser parser = new AiJsonParser(new ObjectMapper(), meterRegistry);
+
+    @Test
+    @DisplayName("코드 펜스와 뒤에 붙은 설명은 무시")
+    void parse_skipsFenceAndTrailingText() {
+        String response = """
+                ```json
+                {"content": "비가 내렸다. {우산}을 폈다.", "keywordUsed": true, "bluffWord": null, "reasoning": "r"}
+                ```
+                위와 같이 작성했습니다.
+                """;
+
+        StoryWriteResponse parsed = parser.parse(AiTaskType.STORY_WRITER, response, StoryWriteResponse.class);
+
+        assertThat(parsed.content()).isEqualTo("비가 내렸다. {우산}을 폈다.");
+        assertThat(parsed.keywordUsed()).isTrue();
+        assertThat(count("trailing-text")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("문자열 중간에서 잘린 응답은 닫아서 복구")
+    void parse_repairsTruncatedString() {
+        String response = "{\"keywordUsed\": true, \"content\": \"비가 내렸다. 민수는 우산을";
+
+        StoryWriteResponse parsed = parser.parse(AiTaskType.STORY_WRITER, response, StoryWriteResponse.class);
+
+        assertThat(parsed.content()).isEqualTo("비가 내렸다. 민수는 우산을");
+        assertThat(parsed.keywordUsed()).isTrue();
+        assertThat(count("truncated")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("키 중간에서 잘린 응답은 마지막 완성된 항목까지만 사용")
+    void parse_dropsIncompleteKey() {
+        String response = "{\"content\": \"비가 내렸다.\", \"keywordUsed\": false, \"bluf";
+
+        StoryWriteResponse parsed = parser.parse(AiTaskType.STORY_WRITER, response, StoryWriteResponse.class);
+
+        assertThat(parsed.content()).isEqualTo("비가 내렸다.");
+        assertThat(parsed.bluffWord()).isNull();
+    }
+
+    @Test
+    @DisplayName("JSON이 없으면 예외")
+    void parse_noJson_throws() {
+        assertThatThrownBy(() -> parser.parse(AiTaskType.STORY_WRITER, "죄송합니다.", StoryWriteResponse.class))
+                .isInstanceOf(AiResponseParseException.class);
+        assertThat(count("failed")).isEqualTo(1.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("ai.response.parse", "type", "STORY_WRITER", "result", result).count();
+    }
+}
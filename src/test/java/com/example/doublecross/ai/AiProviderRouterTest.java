@@ -0,0 +1,149 @@
+package com.example.doublecross.ai;
+
+import com.example.doublecross.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AiProviderRouterTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(5);
+
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReference<CountDownLatch> timerFired = new AtomicReference<>(new CountDownLatch(1));
+
+    // 헤지 타이머 작업(execute로 직접 들어오는 작업)이 시작되는 순간을 알려 주는 실행기
+    private final ExecutorService callExecutor = new AbstractExecutorService() {
+        @Override
+        public void execute(Runnable command) {
+            if (!(command instanceof FutureTask<?>)) {
+                timerFired.get().countDown();
+            }
+            threads.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            threads.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return threads.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return threads.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return threads.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return threads.awaitTermination(timeout, unit);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("기본 제공자가 바로 실패하면 보조 제공자 응답으로 전환")
+    void call_failsOverToSecondary() throws Exception {
+        ChatClient primary = client(() -> {
+            throw new TransientAiException("HTTP 503 - unavailable");
+        });
+        ChatClient secondary = client(() -> response("secondary"));
+
+        ChatResponse response = router(primary, secondary)
+                .call(AiTaskType.STORY_WRITER, AiPrompt.of("system", "user"))
+                .get(2, TimeUnit.SECONDS);
+
+        assertThat(text(response)).isEqualTo("secondary");
+    }
+
+    @Test
+    @DisplayName("헤지 타이머가 보조 요청을 시작하는 순간 기본 요청이 실패해도 보조 응답을 사용")
+    void call_primaryFailsWhileHedgeLaunches() throws Exception {
+        ChatClient primary = client(() -> {
+            try {
+                timerFired.get().await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new TransientAiException("HTTP 503 - unavailable");
+        });
+        ChatClient secondary = client(() -> response("secondary"));
+        AiProviderRouter router = router(primary, secondary);
+
+        for (int i = 0; i < 200; i++) {
+            timerFired.set(new CountDownLatch(1));
+
+            ChatResponse response = router.call(AiTaskType.STORY_WRITER, AiPrompt.of("system", "user"))
+                    .get(2, TimeUnit.SECONDS);
+
+            assertThat(text(response)).as("attempt %d", i).isEqualTo("secondary");
+        }
+    }
+
+    private AiProviderRouter router(ChatClient primary, ChatClient secondary) {
+        ChatClient.Builder builder = mock(ChatClient.Builder.class);
+        when(builder.build()).thenReturn(primary);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ChatClient> secondaryProvider = mock(ObjectProvider.class);
+        when(secondaryProvider.getIfAvailable()).thenReturn(secondary);
+
+        AiProperties properties = new AiProperties(null, null,
+                new AiProperties.Hedge(true, HEDGE_DELAY, 0.9, 50),
+                null, null, null, new AiProperties.StructuredOutput(false), null, null, null);
+        return new AiProviderRouter(builder, secondaryProvider, callExecutor, new SimpleMeterRegistry(), properties);
+    }
+
+    private static ChatClient client(ResponseSupplier supplier) {
+        ChatClient client = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+        when(client.prompt().messages(anyList()).call().chatResponse()).thenAnswer(invocation -> supplier.get());
+        return client;
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult().getOutput().getText();
+    }
+
+    @FunctionalInterface
+    private interface ResponseSupplier {
+        ChatResponse get();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.doublecross.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonFieldExtractorTest {
+
+    private static final String JSON = "{\"reasoning\":\"먼저 \\\"content\\\": \\\"가짜\\\"를 언급\", "
+            + "\"title\":\"content\", "
+            + "\"content\" : \"그가 \\\"안녕\\\"이라 말했다.\\n\\u00e9\\uD83D\\uDE00 끝\\\\\", "
+            + "\"keywordUsed\":true}";
+
+    private static final String EXPECTED = "그가 \"안녕\"이라 말했다.\né😀 끝\\";
+
+    @Test
+    @DisplayName("한 번에 받으면 값 전체를 추출하고 완료 상태가 됨")
+    void feed_wholeJson() {
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+
+        assertThat(extractor.feed(JSON)).isEqualTo(EXPECTED);
+        assertThat(extractor.isComplete()).isTrue();
+        assertThat(extractor.feed("더 들어온 청크")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 위치에서 두 청크로 나눠도 결과가 같음 (키, 이스케이프, \\uXXXX가 잘려도)")
+    void feed_splitAtEveryOffset() {
+        for (int i = 0; i <= JSON.length(); i++) {
+            StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+
+            String result = extractor.feed(JSON.substring(0, i)) + extractor.feed(JSON.substring(i));
+
+            assertThat(result).as("split at %d", i).isEqualTo(EXPECTED);
+            assertThat(extractor.isComplete()).as("split at %d", i).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("한 글자씩 받아도 결과가 같음")
+    void feed_oneCharAtATime() {
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < JSON.length(); i++) {
+            result.append(extractor.feed(String.valueOf(JSON.charAt(i))));
+        }
+
+        assertThat(result).hasToString(EXPECTED);
+        assertThat(extractor.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("문자열 값 안에 나온 키 이름은 필드로 보지 않음")
+    void feed_ignoresKeyInsideStringValue() {
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+
+        String result = extractor.feed("{\"reasoning\":\"content\",\"content\":\"진짜\"}");
+
+        assertThat(result).isEqualTo("진짜");
+    }
+
+    @Test
+    @DisplayName("필드가 끝나기 전에는 완료 상태가 아님")
+    void feed_incompleteValue() {
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("content");
+
+        assertThat(extractor.feed("{\"content\":\"반쯤 \\u00")).isEqualTo("반쯤 ");
+        assertThat(extractor.isComplete()).isFalse();
+        assertThat(extractor.feed("e9\"}")).isEqualTo("é");
+        assertThat(extractor.isComplete()).isTrue();
+    }
+}
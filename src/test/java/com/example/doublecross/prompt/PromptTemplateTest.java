@@ -0,0 +1,54 @@
+package com.example.doublecross.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptTemplateTest {
+
+    @Test
+    @DisplayName("슬롯을 모두 치환하고 JSON 중괄호는 그대로 유지")
+    void render_replacesSlots_keepsJsonBraces() {
+        PromptTemplate template = PromptTemplate.compile("test",
+                "장르: {genre}, 제시어: \"{keyword}\"\n{ \"content\": \"...\" } {genre}");
+
+        String rendered = template.render(Map.of("genre", "ROMANCE", "keyword", "우산"));
+
+        assertThat(template.slotNames()).containsExactly("genre", "keyword");
+        assertThat(rendered).isEqualTo("장르: ROMANCE, 제시어: \"우산\"\n{ \"content\": \"...\" } ROMANCE");
+    }
+
+    @Test
+    @DisplayName("치환된 값 안의 placeholder는 다시 치환하지 않음")
+    void render_doesNotRescanValues() {
+        PromptTemplate template = PromptTemplate.compile("test", "{story} / {maxTurns}");
+
+        String rendered = template.render(Map.of("story", "{maxTurns}", "maxTurns", "10"));
+
+        assertThat(rendered).isEqualTo("{maxTurns} / 10");
+    }
+
+    @Test
+    @DisplayName("값이 없는 슬롯이 있으면 예외")
+    void render_missingValue_throws() {
+        PromptTemplate template = PromptTemplate.compile("test", "{genre} {keyword}");
+
+        assertThatThrownBy(() -> template.render(Map.of("genre", "ROMANCE")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("keyword");
+    }
+
+    @Test
+    @DisplayName("PromptTemplates의 모든 템플릿이 선언한 슬롯과 일치")
+    void catalog_compilesAllTemplates() {
+        PromptCatalog catalog = new PromptCatalog();
+
+        assertThat(catalog.storyWriterUser().slotNames())
+                .containsExactlyInAnyOrder("keywordStatus", "currentTurn", "maxTurns", "shouldUseKeyword",
+                        "storySoFar", "instruction");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.doublecross.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasTableTest {
+
+    @Test
+    @DisplayName("가중치에 비례해 뽑고 가중치 0인 항목은 뽑지 않음")
+    void sample_followsWeights() {
+        AliasTable table = AliasTable.of(new double[]{1.0, 3.0, 0.0, 6.0});
+        int[] counts = new int[4];
+        int samples = 200_000;
+
+        for (int i = 0; i < samples; i++) {
+            counts[table.sample(ThreadLocalRandom.current())]++;
+        }
+
+        assertThat(counts[0] / (double) samples).isCloseTo(0.1, within(0.01));
+        assertThat(counts[1] / (double) samples).isCloseTo(0.3, within(0.01));
+        assertThat(counts[2]).isZero();
+        assertThat(counts[3] / (double) samples).isCloseTo(0.6, within(0.01));
+    }
+}
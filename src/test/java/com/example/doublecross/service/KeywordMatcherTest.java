@@ -0,0 +1,57 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.domain.entity.Keyword;
+import com.example.doublecross.domain.enums.Genre;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class KeywordMatcherTest {
+
+    private final KeywordMatcher matcher = KeywordMatcher.of(List.of(
+            keyword("좀비", Genre.THRILLER),
+            keyword("좀비영화", Genre.COMEDY),
+            keyword("우주", Genre.SF),
+            keyword("우주선", Genre.SF)));
+
+    @Test
+    @DisplayName("한 번 훑어서 겹치는 제시어까지 위치와 함께 모두 찾음")
+    void scan_reportsOverlappingHitsWithOffsets() {
+        List<KeywordMatcher.Hit> hits = matcher.scan("어제 좀비영화를 보고 우주선에 탔다");
+
+        assertThat(hits)
+                .extracting(KeywordMatcher.Hit::word, KeywordMatcher.Hit::start, KeywordMatcher.Hit::end)
+                .containsExactly(
+                        tuple("좀비", 3, 5),
+                        tuple("좀비영화", 3, 7),
+                        tuple("우주", 12, 14),
+                        tuple("우주선", 12, 15));
+    }
+
+    @Test
+    @DisplayName("조사는 PARTICLE, 앞뒤로 붙은 글자는 COMPOUND")
+    void scan_classifiesBoundaries() {
+        assertThat(matcher.scan("좀비.")).extracting(KeywordMatcher.Hit::form)
+                .containsExactly(KeywordMatcher.Form.WORD);
+        assertThat(matcher.scan("좀비처럼 걸었다")).extracting(KeywordMatcher.Hit::form)
+                .containsExactly(KeywordMatcher.Form.PARTICLE);
+        assertThat(matcher.scan("아기좀비")).extracting(KeywordMatcher.Hit::form)
+                .containsExactly(KeywordMatcher.Form.COMPOUND);
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 단어는 단순 포함 여부로 판단")
+    void contains_fallsBackForUnknownWords() {
+        assertThat(matcher.contains("좀비가 나타났다", "좀비")).isTrue();
+        assertThat(matcher.contains("유령이 나타났다", "유령")).isTrue();
+        assertThat(matcher.contains("유령이 나타났다", "좀비")).isFalse();
+    }
+
+    private static Keyword keyword(String word, Genre genre) {
+        return Keyword.builder().word(word).targetGenre(genre).build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.doublecross.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionCommandExecutorTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionCommandExecutor commands = new SessionCommandExecutor(executor, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 세션 명령은 제출 순서대로 하나씩 실행되고, 다른 세션과는 독립적")
+    void submit_runsCommandsInOrderPerSession() throws Exception {
+        int sessions = 8;
+        int perSession = 500;
+        List<UUID> ids = new ArrayList<>();
+        List<List<Integer>> executed = new ArrayList<>();
+        List<AtomicInteger> active = new ArrayList<>();
+        for (int s = 0; s < sessions; s++) {
+            ids.add(UUID.randomUUID());
+            executed.add(new ArrayList<>());
+            active.add(new AtomicInteger());
+        }
+        AtomicInteger overlaps = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < perSession; i++) {
+            for (int s = 0; s < sessions; s++) {
+                int session = s;
+                int order = i;
+                futures.add(commands.execute(ids.get(s), () -> {
+                    if (active.get(session).incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    // 잠금 없는 리스트: 한 번에 하나만 실행될 때만 안전
+                    executed.get(session).add(order);
+                    active.get(session).decrementAndGet();
+                }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(overlaps).hasValue(0);
+        for (List<Integer> orders : executed) {
+            assertThat(orders).hasSize(perSession).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("명령 안에서 같은 세션으로 call()을 중첩 호출해도 교착 없이 바로 실행")
+    void call_isReentrantForSameSession() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+
+        CompletableFuture<String> future = commands.submit(sessionId,
+                () -> "outer:" + commands.call(sessionId, () -> "inner"));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("outer:inner");
+    }
+
+    @Test
+    @DisplayName("메일박스가 비워져 제거되는 순간 들어온 명령도 유실되지 않음")
+    void submit_racingMailboxRemovalLosesNoCommand() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        int producers = 16;
+        int perProducer = 2_000;
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    CompletableFuture<Void> future = commands.execute(sessionId, ran::incrementAndGet);
+                    synchronized (futures) {
+                        futures.add(future);
+                    }
+                    if (i % 100 == 0) {
+                        // 큐가 비어 메일박스가 제거될 틈을 만듦
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        synchronized (futures) {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(ran).hasValue(producers * perProducer);
+        // 모든 명령이 끝나면 메일박스도 정리됨
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("game.session.mailboxes").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("game.session.mailboxes").gauge().value()).isZero();
+    }
+}
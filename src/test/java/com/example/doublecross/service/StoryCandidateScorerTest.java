@@ -0,0 +1,102 @@
+package com.example.doublecross.service;
+
+import com.example.doublecross.dto.AiTurnResponse;
+import com.example.doublecross.dto.StoryWriteRequest;
+import com.example.doublecross.dto.StoryWriteResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoryCandidateScorerTest {
+
+    private static final String KEYWORD = "좀비";
+
+    private final KeywordService keywordService = mock(KeywordService.class);
+    private final StoryCandidateScorer scorer = new StoryCandidateScorer(keywordService);
+
+    @BeforeEach
+    void setUp() {
+        when(keywordService.containsKeyword(any(), any())).thenAnswer(invocation -> {
+            String text = invocation.getArgument(0);
+            String keyword = invocation.getArgument(1);
+            return text != null && keyword != null && text.contains(keyword);
+        });
+    }
+
+    @Test
+    @DisplayName("제시어 사용 지시를 지킨 후보가 가장 큰 점수를 받음")
+    void score_keywordInstruction() {
+        String with = "골목 끝에서 좀비가 천천히 걸어 나왔다.";
+        String without = "골목 끝에서 누군가 천천히 걸어 나왔다.";
+
+        assertThat(scorer.score(story(with), request(true))).isEqualTo(120);
+        assertThat(scorer.score(story(without), request(true))).isEqualTo(20);
+        assertThat(scorer.score(story(with), request(false))).isEqualTo(20);
+        assertThat(scorer.score(story(without), request(false))).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("너무 짧거나 길거나 문장이 3개를 넘으면 분량 점수 없음")
+    void score_lengthAndSentences() {
+        assertThat(scorer.score(story("비가 왔다."), request(false))).isEqualTo(100);
+        assertThat(scorer.score(story("비가 왔다. 바람이 불었다. 문이 열렸다. 그가 들어왔다."), request(false)))
+                .isEqualTo(100);
+        assertThat(scorer.score(story("가".repeat(200) + "."), request(false))).isEqualTo(100);
+        assertThat(scorer.score(story("가".repeat(199) + "."), request(false))).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("장르 이름이나 게임 용어가 새어 나오면 단어마다 감점")
+    void score_koreanLeakWords() {
+        assertThat(scorer.score(story("이 장면은 완전히 공상과학 영화 같았다."), request(false))).isEqualTo(70);
+        assertThat(scorer.score(story("그는 장르를 바꾸고 제시어를 숨겼다."), request(false))).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("영문 장르 이름은 앞뒤가 영문자가 아닐 때만 감점 (한글이 붙어도 감점)")
+    void score_latinGenreBoundaries() {
+        assertThat(scorer.score(story("어제 본 SF영화가 자꾸 떠올랐다."), request(false))).isEqualTo(70);
+        assertThat(scorer.score(story("그 사건은 진짜 Mystery 그 자체였다."), request(false))).isEqualTo(70);
+        assertThat(scorer.score(story("그는 transfer 버튼을 조용히 눌렀다."), request(false))).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("빈 문장은 어떤 후보보다도 낮음")
+    void score_blankContent() {
+        assertThat(scorer.score(story(" "), request(false))).isEqualTo(Integer.MIN_VALUE);
+        assertThat(scorer.score(story(null), request(false))).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("턴 응답 후보는 스토리 점수로 고르고, 동점이면 먼저 온 후보")
+    void best_turnResponsesByStory() {
+        AiTurnResponse missing = turn("골목 끝에서 누군가 천천히 걸어 나왔다.");
+        AiTurnResponse first = turn("골목 끝에서 좀비가 천천히 걸어 나왔다.");
+        AiTurnResponse second = turn("창문 너머로 좀비가 조용히 지나갔다.");
+        AiTurnResponse blank = turn(" ");
+
+        AiTurnResponse best = scorer.best(List.of(blank, missing, first, second),
+                AiTurnResponse::story, request(true));
+
+        assertThat(best).isSameAs(first);
+    }
+
+    private static StoryWriteRequest request(boolean shouldUseKeyword) {
+        return new StoryWriteRequest("SF", KEYWORD, "PENDING", 3, 10, List.of(), shouldUseKeyword);
+    }
+
+    private static StoryWriteResponse story(String content) {
+        return new StoryWriteResponse(content, false, null, null);
+    }
+
+    private static AiTurnResponse turn(String content) {
+        return new AiTurnResponse(content, true, null, null, "PASS", null, 0);
+    }
+}